@@ -0,0 +1,34 @@
+package ua.yarynych.taskapi.config.db;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the routing decision made for every JDBC connection. It only reads the key cached by
+ * the background probe, so it should stay flat as the number of threads grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomRoutingDataSourceBenchmark {
+
+    private CustomRoutingDataSource dataSource;
+
+    @Setup
+    public void setUp() {
+        // The primary is only touched by the probe, which does not run here.
+        dataSource = new CustomRoutingDataSource(null, new DataSourceCircuitBreaker(3, 2, 30_000), 2);
+    }
+
+    @Benchmark
+    public Object determineCurrentLookupKey() {
+        return dataSource.determineCurrentLookupKey();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object determineCurrentLookupKeyContended() {
+        return dataSource.determineCurrentLookupKey();
+    }
+}
@@ -0,0 +1,61 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import org.openjdk.jmh.annotations.*;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serialization and deserialization throughput of the JSON and binary task wire formats.
+ * Run with {@code ./gradlew jmh}; the encoded size of each format is printed during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskWireFormatBenchmark {
+
+    private static final String TOPIC = "task_created";
+
+    @Param({"JSON", "BINARY"})
+    private WireFormat format;
+
+    private TopicTaskSerializer serializer;
+    private AutoDetectingTaskDeserializer deserializer;
+    private Task task;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = new TopicTaskSerializer(Map.of(), format);
+        deserializer = new AutoDetectingTaskDeserializer();
+
+        task = new Task();
+        task.setId(123_456L);
+        task.setName("Prepare quarterly report");
+        task.setDescription("Collect the numbers from every team and publish the summary");
+        task.setStatus(TaskStatus.IN_PROGRESS.getValue());
+        task.setCreated_date(LocalDateTime.of(2024, 11, 3, 14, 15, 9));
+
+        encoded = serializer.serialize(TOPIC, task);
+        System.out.printf("%n%s: %d bytes per message%n", format, encoded.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, task);
+    }
+
+    @Benchmark
+    public Task deserialize() {
+        return deserializer.deserialize(TOPIC, encoded);
+    }
+}
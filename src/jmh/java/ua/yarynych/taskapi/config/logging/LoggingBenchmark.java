@@ -0,0 +1,98 @@
+package ua.yarynych.taskapi.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the logging a single task create produces through three pipelines: a synchronous
+ * file appender, the same appender behind a non-blocking async appender, and async with the hot
+ * logger sampled at 1 in 100, matching the prod profile. Several threads log at once, as request
+ * threads do. Each pipeline gets its own logger context, so the application's configuration is
+ * not involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+    public enum Pipeline {
+        SYNC, ASYNC, ASYNC_SAMPLED
+    }
+
+    private static final String LOGGER_NAME = "ua.yarynych.taskapi.service.TaskService";
+
+    @Param
+    private Pipeline pipeline;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("task-api-logging", ".log");
+        loggerContext = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{ISO8601} %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(loggerContext);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (pipeline != Pipeline.SYNC) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+        if (pipeline == Pipeline.ASYNC_SAMPLED) {
+            LogSamplingTurboFilter samplingFilter = new LogSamplingTurboFilter();
+            samplingFilter.setContext(loggerContext);
+            samplingFilter.setLoggers(LOGGER_NAME);
+            samplingFilter.setSampleRate(100);
+            samplingFilter.start();
+            loggerContext.addTurboFilter(samplingFilter);
+        }
+
+        Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        logger = loggerContext.getLogger(LOGGER_NAME);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loggerContext.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void createTaskLogging() {
+        logger.info("Received request to create task with name: {}", "Prepare quarterly report");
+        logger.info("Creating task with name: {}", "Prepare quarterly report");
+        logger.info("Task created with ID: {}", 123_456L);
+        logger.info("Task created with ID: {}", 123_456L);
+    }
+}
@@ -0,0 +1,37 @@
+package ua.yarynych.taskapi.entity.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TaskStatus#fromValue(String)}, which runs for every status in a request body.
+ * The parameters cover the first and last constant and a value that differs only in case.
+ * The miss is measured from its own state, so it runs once rather than once per parameter and
+ * its input is not a constant the JIT could fold.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskStatusBenchmark {
+
+    @State(Scope.Thread)
+    public static class Known {
+        @Param({"Pending", "Cancelled", "in progress"})
+        private String value;
+    }
+
+    @State(Scope.Thread)
+    public static class Unknown {
+        private String value = "Archived";
+    }
+
+    @Benchmark
+    public TaskStatus fromValue(Known known) {
+        return TaskStatus.fromValue(known.value);
+    }
+
+    @Benchmark
+    public TaskStatus fromValueOrNullMiss(Unknown unknown) {
+        return TaskStatus.fromValueOrNull(unknown.value);
+    }
+}
@@ -0,0 +1,75 @@
+package ua.yarynych.taskapi.service;
+
+import org.openjdk.jmh.annotations.*;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Measures {@link TaskSearchIndex#search} over {@code tasks} synthetic tasks. Words are drawn from
+ * a log-uniform distribution over the vocabulary, so a few words occur in a large share of the
+ * tasks and most are rare, as in natural text. The queries cover the most common word, a rare
+ * word, and a common word narrowed down by a rarer one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSearchIndexBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+
+    @Param({"1000000"})
+    private int tasks;
+
+    @Param({"w0", "w1000", "w0 w50"})
+    private String query;
+
+    private TaskSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new TaskSearchIndex(null);
+        index.rebuild(LongStream.rangeClosed(1, tasks).mapToObj(id -> {
+            String name = text(random, 3);
+            String description = text(random, 12);
+            return new TaskRepository.SearchableText() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public String getDescription() {
+                    return description;
+                }
+            };
+        }));
+    }
+
+    @Benchmark
+    public TaskSearchIndex.Matches firstPage() {
+        return index.search(query, 0, TaskSearchService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskSearchIndex.Matches deepPage() {
+        return index.search(query, TaskSearchService.MAX_WINDOW - TaskSearchService.DEFAULT_PAGE_SIZE, TaskSearchService.DEFAULT_PAGE_SIZE);
+    }
+
+    private static String text(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int word = (int) Math.pow(VOCABULARY, random.nextDouble()) - 1;
+            text.append('w').append(word).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package ua.yarynych.taskapi.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ua.yarynych.taskapi.TaskApiApplication;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the main {@link TaskService} operations end to end through Spring, JPA and an in-memory
+ * H2 database. Kafka is not needed: events only go as far as the outbox table, and the relay and
+ * the consumer are switched off. Each benchmark runs in its own fork, so the table starts with
+ * exactly {@code tasks} rows. {@code showSql} compares Hibernate's synchronous SQL echo, which the
+ * prod profile turns off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskServiceBenchmark {
+
+    @Param({"1000"})
+    private int tasks;
+
+    @Param({"false", "true"})
+    private boolean showSql;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long taskId;
+    private long nextName;
+    private boolean inProgress;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.primary.jdbcUrl=jdbc:h2:mem:task-bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.show_sql=" + showSql,
+                        "task-api.r2dbc.primary.url=r2dbc:h2:mem:///task-bench",
+                        "task-api.tasks.limit=" + Long.MAX_VALUE,
+                        "task-api.outbox.relay-enabled=false",
+                        "task-api.kafka.consumer.auto-startup=false",
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        List<TaskDto> batch = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            batch.add(newTaskDto());
+            if (batch.size() == TaskService.MAX_BATCH_SIZE || i == tasks - 1) {
+                List<Long> ids = taskService.createTasks(batch);
+                taskId = ids.get(0);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createTask() {
+        return taskService.createTask(newTaskDto());
+    }
+
+    @Benchmark
+    public void updateTaskStatus() {
+        // Alternate so every call is an allowed transition that really writes.
+        inProgress = !inProgress;
+        taskService.updateTaskStatus(taskId, (inProgress ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING).getValue());
+    }
+
+    @Benchmark
+    public List<Task> getAllTasks() {
+        return taskService.getAllTasks();
+    }
+
+    private TaskDto newTaskDto() {
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Benchmark task " + nextName++);
+        taskDto.setDescription("Created by TaskServiceBenchmark");
+        taskDto.setStatus(TaskStatus.PENDING.getValue());
+        return taskDto;
+    }
+}
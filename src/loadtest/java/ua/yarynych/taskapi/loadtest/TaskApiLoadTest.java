@@ -0,0 +1,94 @@
+package ua.yarynych.taskapi.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop load driver for a running Task API instance.
+ * <p>
+ * Starts {@code clients} concurrent clients that each send {@code requestsPerClient} GET requests
+ * back to back, then prints throughput and latency percentiles. Run it once against an instance on
+ * the default profile and once against the {@code virtual-threads} profile to compare them:
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="http://localhost:8080/api/tasks?limit=20 5000 20"
+ * </pre>
+ * Arguments: target URL, number of clients (default 5000), requests per client (default 20).
+ * Thousands of clients need as many sockets; raise the open file limit if connections fail.
+ */
+public class TaskApiLoadTest {
+
+    public static void main(String[] args) {
+        URI target = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/tasks?limit=20");
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int requestsPerClient = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(target)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        int total = clients * requestsPerClient;
+        AtomicLongArray latencies = new AtomicLongArray(total);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        System.out.printf("Running %d clients x %d requests against %s%n", clients, requestsPerClient, target);
+        long start = System.nanoTime();
+        CompletableFuture<?>[] runs = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            runs[i] = runClient(httpClient, request, requestsPerClient, latencies, completed, failed);
+        }
+        CompletableFuture.allOf(runs).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        long[] sorted = new long[completed.get()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+
+        System.out.printf("Requests: %d ok, %d failed in %.1f s (%.0f req/s)%n",
+                sorted.length, failed.get(), elapsedNanos / 1e9, sorted.length / (elapsedNanos / 1e9));
+        System.out.printf("Latency ms: p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0.0);
+    }
+
+    private static CompletableFuture<Void> runClient(HttpClient httpClient, HttpRequest request, int remaining,
+                                                     AtomicLongArray latencies, AtomicInteger completed,
+                                                     AtomicInteger failed) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long sent = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, ex) -> {
+                    if (ex == null && response.statusCode() < 500) {
+                        latencies.set(completed.getAndIncrement(), System.nanoTime() - sent);
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> runClient(httpClient, request, remaining - 1, latencies, completed, failed));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
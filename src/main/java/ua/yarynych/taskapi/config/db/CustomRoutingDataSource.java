@@ -1,50 +1,144 @@
 package ua.yarynych.taskapi.config.db;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * CustomRoutingDataSource is an extension of AbstractRoutingDataSource that
  * determines the current data source based on the availability of the primary
  * H2 database. If the H2 database is available, it routes requests to it;
  * otherwise, it defaults to the PostgreSQL database.
+ * <p>
+ * Availability is not checked per query. A scheduled background probe validates the
+ * primary and feeds a {@link DataSourceCircuitBreaker}; routing decisions only read the
+ * cached lookup key. Route decisions and switches are counted and exposed as metrics.
  */
-public class CustomRoutingDataSource extends AbstractRoutingDataSource {
+public class CustomRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomRoutingDataSource.class);
 
-    @Autowired
-    private ApplicationContext applicationContext;
+    public static final String PRIMARY_KEY = "H2";
+    public static final String FALLBACK_KEY = "PostgreSQL";
+
+    private final DataSource primaryDataSource;
+    private final DataSourceCircuitBreaker circuitBreaker;
+    private final int validationTimeoutSeconds;
+
+    private final AtomicLong switchesToPrimary = new AtomicLong();
+    private final AtomicLong switchesToFallback = new AtomicLong();
+    private final LongAdder primaryDecisions = new LongAdder();
+    private final LongAdder fallbackDecisions = new LongAdder();
+
+    private volatile String currentLookupKey = PRIMARY_KEY;
+
+    public CustomRoutingDataSource(DataSource primaryDataSource, DataSourceCircuitBreaker circuitBreaker,
+                                   int validationTimeoutSeconds) {
+        this.primaryDataSource = primaryDataSource;
+        this.circuitBreaker = circuitBreaker;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
 
     /**
      * Determines the current lookup key for the data source.
      *
-     * @return the data source lookup key ("H2" or "PostgreSQL") based on the availability
-     *         of the primary H2 database. Returns null if no suitable source is found.
+     * @return the data source lookup key ("H2" or "PostgreSQL") as last decided by the
+     *         background probe.
      */
     @Override
     protected Object determineCurrentLookupKey() {
-        try {
-            DataSource primaryDataSource = applicationContext.getBean("primaryH2DataSource", DataSource.class);
-            try (Connection connection = primaryDataSource.getConnection()) {
-                if (connection != null) {
-                    logger.info("Using primary H2 data source.");
-                    return "H2";
-                }
+        String key = currentLookupKey;
+        // Runs for every connection; a LongAdder keeps concurrent increments from contending.
+        (PRIMARY_KEY.equals(key) ? primaryDecisions : fallbackDecisions).increment();
+        return key;
+    }
+
+    /**
+     * @return the lookup key that is currently being routed to.
+     */
+    public String getCurrentLookupKey() {
+        return currentLookupKey;
+    }
+
+    /**
+     * @return the state of the circuit breaker guarding the primary data source.
+     */
+    public DataSourceCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Probes the primary H2 data source and updates the cached route.
+     * Runs on the scheduler thread, so a slow or hanging connect never delays a request.
+     */
+    @Scheduled(fixedDelayString = "${task-api.datasource.probe.interval-ms:5000}")
+    public void probePrimary() {
+        if (circuitBreaker.tryAcquireProbe()) {
+            if (isPrimaryAvailable()) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
             }
+        }
+        updateLookupKey();
+    }
+
+    private boolean isPrimaryAvailable() {
+        try (Connection connection = primaryDataSource.getConnection()) {
+            return connection != null && connection.isValid(validationTimeoutSeconds);
         } catch (SQLException e) {
-            logger.warn("Primary H2 data source is unavailable, falling back to PostgreSQL.", e);
-            return "PostgreSQL";
+            logger.debug("Primary H2 data source probe failed.", e);
+            return false;
         }
+    }
 
-        logger.error("No suitable data source found.");
-        return null;
+    private void updateLookupKey() {
+        String newKey = circuitBreaker.allowsPrimary() ? PRIMARY_KEY : FALLBACK_KEY;
+        if (newKey.equals(currentLookupKey)) {
+            return;
+        }
+
+        currentLookupKey = newKey;
+        if (PRIMARY_KEY.equals(newKey)) {
+            switchesToPrimary.incrementAndGet();
+            logger.info("Primary H2 data source recovered, routing back to H2.");
+        } else {
+            switchesToFallback.incrementAndGet();
+            logger.warn("Primary H2 data source is unavailable, falling back to PostgreSQL.");
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("task.datasource.route.switches", switchesToPrimary, AtomicLong::get)
+                .description("Number of times routing switched to the given data source")
+                .tag("target", PRIMARY_KEY)
+                .register(registry);
+        FunctionCounter.builder("task.datasource.route.switches", switchesToFallback, AtomicLong::get)
+                .description("Number of times routing switched to the given data source")
+                .tag("target", FALLBACK_KEY)
+                .register(registry);
+        FunctionCounter.builder("task.datasource.route.decisions", primaryDecisions, LongAdder::sum)
+                .description("Number of connections routed to the given data source")
+                .tag("target", PRIMARY_KEY)
+                .register(registry);
+        FunctionCounter.builder("task.datasource.route.decisions", fallbackDecisions, LongAdder::sum)
+                .description("Number of connections routed to the given data source")
+                .tag("target", FALLBACK_KEY)
+                .register(registry);
+        Gauge.builder("task.datasource.circuit.open", circuitBreaker, breaker -> breaker.allowsPrimary() ? 0 : 1)
+                .description("1 while the circuit breaker keeps traffic away from the primary data source")
+                .register(registry);
     }
 }
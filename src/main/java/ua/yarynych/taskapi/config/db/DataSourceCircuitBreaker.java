@@ -0,0 +1,103 @@
+package ua.yarynych.taskapi.config.db;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker guarding the primary H2 data source.
+ * <p>
+ * CLOSED - the primary is healthy and receives traffic. After {@code failureThreshold}
+ * consecutive failed probes the breaker opens.
+ * <p>
+ * OPEN - traffic goes to the fallback. No probes are made until {@code openDurationMillis}
+ * have elapsed, after which the breaker becomes half-open.
+ * <p>
+ * HALF_OPEN - traffic still goes to the fallback while the primary is probed. After
+ * {@code successThreshold} consecutive successful probes the breaker closes again;
+ * a single failure re-opens it.
+ * <p>
+ * Transitions are driven by a single probing thread; the state is published through a
+ * volatile field so routing decisions can read it without locking.
+ */
+public class DataSourceCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final int successThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier clock;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+    private long openedAt;
+
+    public DataSourceCircuitBreaker(int failureThreshold, int successThreshold, long openDurationMillis) {
+        this(failureThreshold, successThreshold, openDurationMillis, System::currentTimeMillis);
+    }
+
+    DataSourceCircuitBreaker(int failureThreshold, int successThreshold, long openDurationMillis, LongSupplier clock) {
+        if (failureThreshold < 1 || successThreshold < 1 || openDurationMillis < 0) {
+            throw new IllegalArgumentException("Thresholds must be positive and the open duration non-negative.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.successThreshold = successThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the current breaker state.
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return true if traffic should go to the primary data source.
+     */
+    public boolean allowsPrimary() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * Decides whether a probe should run now. An open breaker whose wait period has elapsed
+     * moves to half-open here.
+     *
+     * @return true if the primary should be probed.
+     */
+    public synchronized boolean tryAcquireProbe() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMillis) {
+                return false;
+            }
+            consecutiveSuccesses = 0;
+            state = State.HALF_OPEN;
+        }
+        return true;
+    }
+
+    /**
+     * Records a successful probe of the primary.
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN && ++consecutiveSuccesses >= successThreshold) {
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Records a failed probe of the primary.
+     */
+    public synchronized void recordFailure() {
+        consecutiveSuccesses = 0;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            consecutiveFailures = 0;
+            openedAt = clock.getAsLong();
+            state = State.OPEN;
+        }
+    }
+}
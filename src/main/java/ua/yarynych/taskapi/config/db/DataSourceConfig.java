@@ -10,6 +10,7 @@ import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -56,6 +57,18 @@ public class DataSourceConfig {
     }
 
 
+    /**
+     * Binds the settings of the primary data source health probe.
+     *
+     * @return the probe properties.
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "task-api.datasource.probe")
+    public DataSourceProbeProperties dataSourceProbeProperties() {
+        return new DataSourceProbeProperties();
+    }
+
+
     /**
      * Configures the custom routing data source that determines which data source
      * to use at runtime based on availability.
@@ -63,10 +76,14 @@ public class DataSourceConfig {
      * @return the configured CustomRoutingDataSource.
      */
     @Bean
-    public DataSource dataSource() {
+    public CustomRoutingDataSource dataSource() {
         logger.info("Configuring CustomRoutingDataSource with target data sources.");
 
-        CustomRoutingDataSource customRoutingDataSource = new CustomRoutingDataSource();
+        DataSourceProbeProperties probe = dataSourceProbeProperties();
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker(
+                probe.getFailureThreshold(), probe.getSuccessThreshold(), probe.getOpenDurationMs());
+        CustomRoutingDataSource customRoutingDataSource = new CustomRoutingDataSource(
+                primaryH2DataSource(), circuitBreaker, probe.getValidationTimeoutSeconds());
         Map<Object, Object> targetDataSources = new HashMap<>();
 
         targetDataSources.put("H2", primaryH2DataSource());
@@ -80,6 +97,18 @@ public class DataSourceConfig {
     }
 
 
+    /**
+     * Configures a JdbcTemplate on top of the routing data source, for work that is
+     * better done with plain JDBC batches than through the entity manager.
+     *
+     * @return the configured JdbcTemplate.
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(dataSource());
+    }
+
+
     /**
      * Configures the entity manager factory for the primary data source.
      *
@@ -99,11 +128,13 @@ public class DataSourceConfig {
 
 
     /**
-     * Configures the transaction manager for the primary data source.
+     * Configures the transaction manager for the primary data source. It is marked primary so
+     * {@code @Transactional} keeps using JPA next to the reactive transaction manager.
      *
      * @param primaryEntityManagerFactory the EntityManagerFactory to use for transactions.
      * @return the configured PlatformTransactionManager.
      */
+    @Primary
     @Bean(name = "transactionManager")
     public PlatformTransactionManager primaryTransactionManager(
             @Qualifier("entityManagerFactory") EntityManagerFactory primaryEntityManagerFactory) {
@@ -0,0 +1,34 @@
+package ua.yarynych.taskapi.config.db;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for the background health probe of the primary H2 data source,
+ * bound from {@code task-api.datasource.probe.*}.
+ * The probe interval itself is read by the scheduler from {@code task-api.datasource.probe.interval-ms}.
+ */
+@Getter
+@Setter
+public class DataSourceProbeProperties {
+
+    /**
+     * Consecutive failed probes before traffic is switched to PostgreSQL.
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * Consecutive successful half-open probes before traffic is switched back to H2.
+     */
+    private int successThreshold = 2;
+
+    /**
+     * How long the breaker stays open before the primary is probed again, in milliseconds.
+     */
+    private long openDurationMs = 30_000;
+
+    /**
+     * Timeout passed to {@link java.sql.Connection#isValid(int)}, in seconds.
+     */
+    private int validationTimeoutSeconds = 2;
+}
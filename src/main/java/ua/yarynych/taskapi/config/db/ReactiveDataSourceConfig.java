@@ -0,0 +1,116 @@
+package ua.yarynych.taskapi.config.db;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the reactive data access used by the {@code /api/rx/tasks} endpoints.
+ * It sets up pooled R2DBC connection factories for H2 and PostgreSQL behind a routing connection
+ * factory, plus a reactive transaction manager. The JPA transaction manager stays the default
+ * for {@code @Transactional}.
+ */
+@Configuration
+public class ReactiveDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveDataSourceConfig.class);
+
+
+    /**
+     * Binds the settings of the reactive data sources.
+     *
+     * @return the R2DBC properties.
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "task-api.r2dbc")
+    public ReactiveDataSourceProperties reactiveDataSourceProperties() {
+        return new ReactiveDataSourceProperties();
+    }
+
+
+    /**
+     * Configures the routing connection factory, which follows the route of the JDBC data source.
+     *
+     * @param routingDataSource the routing data source deciding between H2 and PostgreSQL.
+     * @return the configured RoutingConnectionFactory.
+     */
+    @Bean
+    public RoutingConnectionFactory connectionFactory(CustomRoutingDataSource routingDataSource) {
+        logger.info("Configuring RoutingConnectionFactory with target connection factories.");
+
+        ReactiveDataSourceProperties properties = reactiveDataSourceProperties();
+        ConnectionFactory primary = pooled(properties.getPrimary(), properties.getMaxPoolSize());
+        RoutingConnectionFactory routingConnectionFactory = new RoutingConnectionFactory(routingDataSource);
+        Map<String, ConnectionFactory> targetConnectionFactories = new HashMap<>();
+
+        targetConnectionFactories.put(CustomRoutingDataSource.PRIMARY_KEY, primary);
+        targetConnectionFactories.put(CustomRoutingDataSource.FALLBACK_KEY,
+                pooled(properties.getSecondary(), properties.getMaxPoolSize()));
+
+        routingConnectionFactory.setTargetConnectionFactories(targetConnectionFactories);
+        routingConnectionFactory.setDefaultTargetConnectionFactory(primary);
+        return routingConnectionFactory;
+    }
+
+
+    /**
+     * Configures the reactive transaction manager for the routing connection factory.
+     *
+     * @param connectionFactory the routing connection factory.
+     * @return the configured ReactiveTransactionManager.
+     */
+    @Bean
+    public ReactiveTransactionManager reactiveTransactionManager(RoutingConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+
+    /**
+     * Configures the operator used to run reactive pipelines in a transaction.
+     *
+     * @param reactiveTransactionManager the reactive transaction manager.
+     * @return the configured TransactionalOperator.
+     */
+    @Bean
+    public TransactionalOperator transactionalOperator(ReactiveTransactionManager reactiveTransactionManager) {
+        return TransactionalOperator.create(reactiveTransactionManager);
+    }
+
+
+    /**
+     * Configures a DatabaseClient on top of the routing connection factory.
+     *
+     * @param connectionFactory the routing connection factory.
+     * @return the configured DatabaseClient.
+     */
+    @Bean
+    public DatabaseClient databaseClient(RoutingConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    private static ConnectionFactory pooled(ReactiveDataSourceProperties.Target target, int maxPoolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(target.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, target.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, target.getPassword())
+                .build();
+        // Connections are opened lazily, so an unreachable fallback does not fail startup.
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(0)
+                .maxSize(maxPoolSize)
+                .build());
+    }
+}
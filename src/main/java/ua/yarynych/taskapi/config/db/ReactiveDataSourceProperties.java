@@ -0,0 +1,45 @@
+package ua.yarynych.taskapi.config.db;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Connection settings of the reactive (R2DBC) data sources, bound from {@code task-api.r2dbc.*}.
+ * They point at the same H2 and PostgreSQL databases as the JDBC data sources.
+ */
+@Getter
+@Setter
+public class ReactiveDataSourceProperties {
+
+    /**
+     * The primary H2 database.
+     */
+    private Target primary = new Target();
+
+    /**
+     * The fallback PostgreSQL database.
+     */
+    private Target secondary = new Target();
+
+    /**
+     * Maximum number of pooled connections per database.
+     */
+    private int maxPoolSize = 20;
+
+    /**
+     * Settings of a single R2DBC connection factory.
+     */
+    @Getter
+    @Setter
+    public static class Target {
+
+        /**
+         * The R2DBC URL, e.g. {@code r2dbc:h2:file///~/test}.
+         */
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
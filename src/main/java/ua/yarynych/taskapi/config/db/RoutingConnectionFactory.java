@@ -0,0 +1,28 @@
+package ua.yarynych.taskapi.config.db;
+
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CustomRoutingDataSource}. It does not probe the databases itself
+ * but follows the route last decided by the JDBC data source, so blocking and reactive requests
+ * always fail over together.
+ */
+public class RoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+    private final CustomRoutingDataSource routingDataSource;
+
+    public RoutingConnectionFactory(CustomRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    /**
+     * Determines the current lookup key for the connection factory.
+     *
+     * @return the lookup key ("H2" or "PostgreSQL") currently used by the routing data source.
+     */
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.fromSupplier(routingDataSource::getCurrentLookupKey);
+    }
+}
@@ -0,0 +1,32 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import ua.yarynych.taskapi.entity.Task;
+
+/**
+ * Reads tasks in either wire format. Binary records start with the format version byte,
+ * which can never begin a JSON document, so producers can switch a topic's format
+ * without coordinating with consumers.
+ */
+public class AutoDetectingTaskDeserializer implements Deserializer<Task> {
+
+    private final JsonDeserializer<Task> jsonDeserializer = new JsonDeserializer<>(Task.class, false);
+    private final TaskBinaryDeserializer binaryDeserializer = new TaskBinaryDeserializer();
+
+    @Override
+    public Task deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 0 && data[0] == TaskBinarySerializer.VERSION) {
+            return binaryDeserializer.deserialize(topic, data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
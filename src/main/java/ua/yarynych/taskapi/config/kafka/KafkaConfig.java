@@ -1,18 +1,22 @@
 package ua.yarynych.taskapi.config.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.core.*;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.service.kafka.ConsumedTaskBuffer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,13 +24,26 @@ import java.util.Map;
 /**
  * Kafka configuration class that sets up the Kafka producer and consumer
  * with the necessary settings and serializers.
+ * Broker addresses, producer tuning and per-topic wire formats come from {@link TaskKafkaProperties}.
  */
 @Configuration
+@EnableConfigurationProperties(TaskKafkaProperties.class)
 public class KafkaConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaConfig.class);
 
-    private final String kafkaServer="localhost:9092";
+    private final TaskKafkaProperties kafkaProperties;
+    private final boolean virtualThreads;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public KafkaConfig(TaskKafkaProperties kafkaProperties,
+                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                       MeterRegistry meterRegistry) {
+        this.kafkaProperties = kafkaProperties;
+        this.virtualThreads = virtualThreads;
+        this.meterRegistry = meterRegistry;
+    }
 
 
     /**
@@ -35,7 +52,7 @@ public class KafkaConfig {
      * @return the KafkaTemplate instance.
      */
     @Bean
-    public KafkaTemplate<String, Task> kafkaTemplate() {
+    public KafkaTemplate<String, Object> kafkaTemplate() {
         logger.info("Creating KafkaTemplate for sending messages.");
         return new KafkaTemplate<>(producerFactory());
     }
@@ -43,41 +60,71 @@ public class KafkaConfig {
 
     /**
      * Configures the producer factory with necessary properties.
+     * The Kafka client metrics of every producer (request latency, errors, retries) are bound to Micrometer.
      *
      * @return the configured ProducerFactory instance.
      */
-    ProducerFactory<String, Task> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaServer);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    ProducerFactory<String, Object> producerFactory() {
+        Map<String, Object> configProps = producerConfigs();
+
+        logger.info("Configuring ProducerFactory with Kafka server: {} and preset: {}",
+                kafkaProperties.getBootstrapServers(), kafkaProperties.getProducer().getPreset());
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(),
+                new TopicTaskSerializer(kafkaProperties.getTopicWireFormats(), kafkaProperties.getDefaultWireFormat()));
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
+    }
+
 
-        logger.info("Configuring ProducerFactory with Kafka server: {}", kafkaServer);
-        return new DefaultKafkaProducerFactory<>(configProps);
+    /**
+     * Builds the producer properties: the selected preset first, then any explicit overrides.
+     *
+     * @return the producer properties.
+     */
+    Map<String, Object> producerConfigs() {
+        TaskKafkaProperties.Producer producer = kafkaProperties.getProducer();
+
+        Map<String, Object> configProps = new HashMap<>(producer.getPreset().getSettings());
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+
+        putIfSet(configProps, ProducerConfig.LINGER_MS_CONFIG, producer.getLingerMs());
+        putIfSet(configProps, ProducerConfig.BATCH_SIZE_CONFIG, producer.getBatchSize());
+        putIfSet(configProps, ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.getCompressionType());
+        putIfSet(configProps, ProducerConfig.ACKS_CONFIG, producer.getAcks());
+        putIfSet(configProps, ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producer.getEnableIdempotence());
+        putIfSet(configProps, ProducerConfig.MAX_BLOCK_MS_CONFIG, producer.getMaxBlockMs());
+        configProps.putAll(producer.getProperties());
+        return configProps;
     }
 
 
     /**
      * Creates the consumer factory with properties for consuming messages from Kafka.
+     * The Kafka client metrics of every consumer (fetch latency, records lag) are bound to Micrometer.
      *
      * @return the configured ConsumerFactory instance.
      */
     @Bean
     public ConsumerFactory<String, Task> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaServer);
-        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "task_group");
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, Task.class.getName());
-
-        logger.info("Configuring ConsumerFactory with Kafka server: {}", kafkaServer);
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaProperties.getConsumerGroupId());
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, kafkaProperties.getConsumer().getMaxPollRecords());
+
+        logger.info("Configuring ConsumerFactory with Kafka server: {}", kafkaProperties.getBootstrapServers());
+        DefaultKafkaConsumerFactory<String, Task> factory =
+                new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new AutoDetectingTaskDeserializer());
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
 
 
     /**
      * Creates a ConcurrentKafkaListenerContainerFactory for processing Kafka messages.
+     * Listeners receive whole polled batches, and one consumer thread is started per
+     * configured unit of concurrency (ideally one per partition). When virtual threads are
+     * enabled, the consumer threads are virtual too. Each batch is timed by the container
+     * ({@code spring.kafka.listener}, tagged with the result and exception).
      *
      * @return the configured ConcurrentKafkaListenerContainerFactory instance.
      */
@@ -85,8 +132,36 @@ public class KafkaConfig {
     public ConcurrentKafkaListenerContainerFactory<String, Task> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Task> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
-
-        logger.info("Creating ConcurrentKafkaListenerContainerFactory for consuming messages.");
+        factory.setBatchListener(true);
+        factory.setConcurrency(kafkaProperties.getConsumer().getConcurrency());
+        factory.getContainerProperties().setMicrometerEnabled(true);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("task-kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+
+        logger.info("Creating batch ConcurrentKafkaListenerContainerFactory with concurrency {}.",
+                kafkaProperties.getConsumer().getConcurrency());
         return factory;
     }
+
+    /**
+     * Creates the bounded buffer holding the most recently consumed tasks.
+     *
+     * @return the ConsumedTaskBuffer instance.
+     */
+    @Bean
+    public ConsumedTaskBuffer consumedTaskBuffer() {
+        TaskKafkaProperties.Consumer consumer = kafkaProperties.getConsumer();
+        logger.info("Creating ConsumedTaskBuffer with capacity {} and eviction policy {}.",
+                consumer.getBufferCapacity(), consumer.getBufferEviction());
+        return new ConsumedTaskBuffer(consumer.getBufferCapacity(), consumer.getBufferEviction());
+    }
+
+    private static void putIfSet(Map<String, Object> configProps, String key, Object value) {
+        if (value != null) {
+            configProps.put(key, value);
+        }
+    }
 }
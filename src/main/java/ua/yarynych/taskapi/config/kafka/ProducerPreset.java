@@ -0,0 +1,50 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Map;
+
+/**
+ * Named sets of Kafka producer settings. Individual values can still be overridden
+ * through {@code task-api.kafka.producer.*}.
+ */
+@AllArgsConstructor
+@Getter
+public enum ProducerPreset {
+
+    /**
+     * Send every record immediately with leader-only acknowledgement.
+     */
+    LOW_LATENCY(Map.of(
+            ProducerConfig.LINGER_MS_CONFIG, 0,
+            ProducerConfig.BATCH_SIZE_CONFIG, 16_384,
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, "none",
+            ProducerConfig.ACKS_CONFIG, "1",
+            ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false)),
+
+    /**
+     * Short linger and light compression with full, idempotent acknowledgement.
+     */
+    BALANCED(Map.of(
+            ProducerConfig.LINGER_MS_CONFIG, 5,
+            ProducerConfig.BATCH_SIZE_CONFIG, 32_768,
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4",
+            ProducerConfig.ACKS_CONFIG, "all",
+            ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)),
+
+    /**
+     * Large, compressed batches for sustained high event rates.
+     */
+    THROUGHPUT(Map.of(
+            ProducerConfig.LINGER_MS_CONFIG, 20,
+            ProducerConfig.BATCH_SIZE_CONFIG, 131_072,
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4",
+            ProducerConfig.ACKS_CONFIG, "all",
+            ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+            ProducerConfig.BUFFER_MEMORY_CONFIG, 67_108_864L,
+            ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION_CONFIG, 5));
+
+    private final Map<String, Object> settings;
+}
@@ -0,0 +1,106 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static ua.yarynych.taskapi.config.kafka.TaskBinarySerializer.*;
+
+/**
+ * Decodes tasks written by {@link TaskBinarySerializer}.
+ */
+public class TaskBinaryDeserializer implements Deserializer<Task> {
+
+    @Override
+    public Task deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            Reader reader = new Reader(data);
+            int version = reader.readByte();
+            if (version != VERSION) {
+                throw new SerializationException("Unsupported task wire format version: " + version);
+            }
+            int flags = reader.readByte();
+
+            Task task = new Task();
+            if ((flags & HAS_ID) != 0) {
+                task.setId(unzigzag(reader.readVarLong()));
+            }
+            if ((flags & HAS_NAME) != 0) {
+                task.setName(reader.readString());
+            }
+            if ((flags & HAS_DESCRIPTION) != 0) {
+                task.setDescription(reader.readString());
+            }
+            if ((flags & HAS_STATUS) != 0) {
+                TaskStatus status;
+                try {
+                    status = TaskStatus.fromCode((short) reader.readByte());
+                } catch (IllegalArgumentException e) {
+                    throw new SerializationException("Unknown task status code.", e);
+                }
+                task.setStatus(status.getValue());
+            }
+            if ((flags & HAS_CREATED_DATE) != 0) {
+                long epochSecond = unzigzag(reader.readVarLong());
+                int nanos = (int) reader.readVarLong();
+                task.setCreated_date(LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC));
+            } else {
+                task.setCreated_date(null);
+            }
+            return task;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated task record on topic " + topic, e);
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int readByte() {
+            return data[position++] & 0xFF;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift > 63) {
+                    throw new SerializationException("Malformed varint in task record.");
+                }
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private String readString() {
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > data.length) {
+                throw new SerializationException("Malformed string length in task record.");
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import org.apache.kafka.common.serialization.Serializer;
+import ua.yarynych.taskapi.entity.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Compact, versioned binary encoding of a {@link Task}.
+ * <p>
+ * Layout of version 1:
+ * <pre>
+ * byte    version (1)
+ * byte    presence flags (id, name, description, status, created_date)
+ * varint  id, zigzag-encoded
+ * varint  name length, followed by the UTF-8 bytes
+ * varint  description length, followed by the UTF-8 bytes
+ * byte    status code, see {@link ua.yarynych.taskapi.entity.enums.TaskStatus#getCode()}
+ * varint  created_date epoch seconds (UTC), zigzag-encoded
+ * varint  created_date nanoseconds
+ * </pre>
+ * Absent fields are omitted entirely. Field names are never written.
+ */
+public class TaskBinarySerializer implements Serializer<Task> {
+
+    static final byte VERSION = 1;
+
+    static final int HAS_ID = 1;
+    static final int HAS_NAME = 1 << 1;
+    static final int HAS_DESCRIPTION = 1 << 2;
+    static final int HAS_STATUS = 1 << 3;
+    static final int HAS_CREATED_DATE = 1 << 4;
+
+    @Override
+    public byte[] serialize(String topic, Task task) {
+        if (task == null) {
+            return null;
+        }
+
+        byte[] name = task.getName() != null ? task.getName().getBytes(StandardCharsets.UTF_8) : null;
+        byte[] description = task.getDescription() != null ? task.getDescription().getBytes(StandardCharsets.UTF_8) : null;
+
+        int flags = 0;
+        if (task.getId() != null) {
+            flags |= HAS_ID;
+        }
+        if (name != null) {
+            flags |= HAS_NAME;
+        }
+        if (description != null) {
+            flags |= HAS_DESCRIPTION;
+        }
+        if (task.getStatus() != null) {
+            flags |= HAS_STATUS;
+        }
+        if (task.getCreated_date() != null) {
+            flags |= HAS_CREATED_DATE;
+        }
+
+        // Upper bound: header, three 10-byte varints, two 5-byte lengths, status byte, strings.
+        int capacity = 2 + 30 + 10 + 1 + (name != null ? name.length : 0) + (description != null ? description.length : 0);
+        Writer writer = new Writer(capacity);
+        writer.writeByte(VERSION);
+        writer.writeByte(flags);
+
+        if (task.getId() != null) {
+            writer.writeVarLong(zigzag(task.getId()));
+        }
+        if (name != null) {
+            writer.writeBytes(name);
+        }
+        if (description != null) {
+            writer.writeBytes(description);
+        }
+        if (task.getStatus() != null) {
+            writer.writeByte(task.getStatus().getCode());
+        }
+        if (task.getCreated_date() != null) {
+            LocalDateTime createdDate = task.getCreated_date();
+            writer.writeVarLong(zigzag(createdDate.toEpochSecond(ZoneOffset.UTC)));
+            writer.writeVarLong(createdDate.getNano());
+        }
+        return writer.toByteArray();
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static final class Writer {
+        private final byte[] buffer;
+        private int position;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        private void writeByte(int value) {
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import ua.yarynych.taskapi.service.kafka.ConsumedTaskBuffer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka client settings, bound from {@code task-api.kafka.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "task-api.kafka")
+public class TaskKafkaProperties {
+
+    /**
+     * Comma-separated list of broker addresses.
+     */
+    private String bootstrapServers = "localhost:9092";
+
+    /**
+     * Consumer group of the task listener.
+     */
+    private String consumerGroupId = "task_group";
+
+    /**
+     * Wire format for topics without an explicit entry in {@code topicWireFormats}.
+     */
+    private WireFormat defaultWireFormat = WireFormat.JSON;
+
+    /**
+     * Wire format per topic name. Consumers detect the format of each record, so a topic
+     * can be switched without redeploying its readers first.
+     */
+    private Map<String, WireFormat> topicWireFormats = new HashMap<>();
+
+    private final Producer producer = new Producer();
+
+    private final Consumer consumer = new Consumer();
+
+    /**
+     * Producer tuning. Explicit values take precedence over the preset.
+     */
+    @Getter
+    @Setter
+    public static class Producer {
+
+        private ProducerPreset preset = ProducerPreset.BALANCED;
+
+        private Integer lingerMs;
+
+        private Integer batchSize;
+
+        private String compressionType;
+
+        private String acks;
+
+        private Boolean enableIdempotence;
+
+        /**
+         * Maximum time {@code send} may block when the buffer is full or metadata is missing.
+         */
+        private Integer maxBlockMs = 5_000;
+
+        /**
+         * Any other raw producer properties.
+         */
+        private Map<String, String> properties = new HashMap<>();
+    }
+
+    /**
+     * Consumer-side settings.
+     */
+    @Getter
+    @Setter
+    public static class Consumer {
+
+        /**
+         * Number of listener threads; should match the partition count of the topic.
+         */
+        private int concurrency = 3;
+
+        /**
+         * Maximum number of records returned by one poll, i.e. the largest batch a listener sees.
+         */
+        private int maxPollRecords = 500;
+
+        /**
+         * Number of consumed tasks kept in memory for the REST endpoint.
+         */
+        private int bufferCapacity = 10_000;
+
+        /**
+         * What to do with new tasks once the buffer is full; with drop-newest, full means
+         * {@code bufferCapacity} tasks that no page read has passed yet.
+         */
+        private ConsumedTaskBuffer.EvictionPolicy bufferEviction = ConsumedTaskBuffer.EvictionPolicy.OVERWRITE_OLDEST;
+    }
+}
@@ -0,0 +1,38 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import ua.yarynych.taskapi.entity.Task;
+
+import java.util.Map;
+
+/**
+ * Serializes task events. Tasks are written in the wire format configured for the destination
+ * topic; other event payloads, such as aggregated status changes, are always written as JSON.
+ */
+public class TopicTaskSerializer implements Serializer<Object> {
+
+    private final Map<String, WireFormat> topicFormats;
+    private final WireFormat defaultFormat;
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private final TaskBinarySerializer binarySerializer = new TaskBinarySerializer();
+
+    public TopicTaskSerializer(Map<String, WireFormat> topicFormats, WireFormat defaultFormat) {
+        this.topicFormats = Map.copyOf(topicFormats);
+        this.defaultFormat = defaultFormat;
+        this.jsonSerializer.setAddTypeInfo(false);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object event) {
+        if (event instanceof Task task && topicFormats.getOrDefault(topic, defaultFormat) == WireFormat.BINARY) {
+            return binarySerializer.serialize(topic, task);
+        }
+        return jsonSerializer.serialize(topic, event);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,15 @@
+package ua.yarynych.taskapi.config.kafka;
+
+/**
+ * Encodings available for task records on a Kafka topic.
+ */
+public enum WireFormat {
+    /**
+     * Spring's JsonSerializer, without type headers.
+     */
+    JSON,
+    /**
+     * {@link TaskBinarySerializer}.
+     */
+    BINARY
+}
@@ -0,0 +1,58 @@
+package ua.yarynych.taskapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Logback turbo filter that keeps only one in {@code sampleRate} INFO-or-lower events of selected
+ * loggers. It runs before the logging event is created, so a sampled-out call costs a counter
+ * increment instead of message formatting and appending. Warnings and errors are never sampled.
+ * Each logger is counted separately, so a chatty logger cannot crowd out a quiet one.
+ * <p>
+ * Configured in {@code logback-spring.xml} from {@code task-api.logging.*}.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private Set<String> loggers = Set.of();
+    private long sampleRate = 1;
+
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (sampleRate <= 1 || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !loggers.contains(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long count = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+        return count % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * @param loggers comma-separated names of the loggers to sample.
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * @param sampleRate keep one event in this many; 1 or less keeps every event.
+     */
+    public void setSampleRate(long sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
@@ -0,0 +1,30 @@
+package ua.yarynych.taskapi.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for application metrics.
+ * <p>
+ * Most meters come from Spring Boot: {@code http.server.requests} times every controller endpoint,
+ * {@code spring.data.repository.invocations} times every repository method, and
+ * {@code hikaricp.connections.*} reports each connection pool. This class adds support for
+ * {@link io.micrometer.core.annotation.Timed} on service classes. All meters are scraped from
+ * {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Creates the aspect that records {@code @Timed} methods.
+     *
+     * @param meterRegistry the registry to record into.
+     * @return the TimedAspect instance.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package ua.yarynych.taskapi.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Helpers for the newline-delimited JSON mode of the list endpoints. Clients opt in with
+ * {@code Accept: application/x-ndjson}; wildcards keep getting a JSON array, so existing clients
+ * see no change. Each item is written as one line as soon as it is produced, so the first bytes
+ * leave before the list is complete and the list is never held in memory as a whole.
+ */
+public final class NdjsonResponses {
+
+    private NdjsonResponses() {
+    }
+
+    /**
+     * Checks whether the client explicitly asked for newline-delimited JSON.
+     *
+     * @param request the current request.
+     * @return true if the Accept header names application/x-ndjson.
+     */
+    public static boolean isRequested(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a response body that writes every item the source produces as one line of JSON.
+     *
+     * @param objectMapper the mapper used to serialize the items.
+     * @param source       called once with a consumer to hand each item to, in order.
+     * @return the streaming response body.
+     */
+    public static <T> StreamingResponseBody body(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                // Lines are terminated explicitly; the default separator would indent every line after the first.
+                generator.setRootValueSeparator(null);
+                source.accept(item -> writeLine(generator, item));
+            }
+        };
+    }
+
+    private static void writeLine(JsonGenerator generator, Object item) {
+        try {
+            generator.writeObject(item);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
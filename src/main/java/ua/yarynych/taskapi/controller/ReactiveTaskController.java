@@ -0,0 +1,104 @@
+package ua.yarynych.taskapi.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.service.ReactiveTaskService;
+
+/**
+ * Controller for the reactive task endpoints. Handlers return Mono and Flux, so the request thread
+ * is released while the database works and the response is completed asynchronously. Task
+ * streams are written as newline-delimited JSON or server-sent events, one task at a time, and
+ * only read from the database as fast as the client consumes them.
+ */
+@RestController
+@RequestMapping("/api/rx/tasks")
+public class ReactiveTaskController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTaskController.class);
+    private final ReactiveTaskService reactiveTaskService;
+
+    @Autowired
+    public ReactiveTaskController(ReactiveTaskService reactiveTaskService) {
+        this.reactiveTaskService = reactiveTaskService;
+    }
+
+    /**
+     * Creates a new task.
+     *
+     * @param taskDto the DTO containing the details of the task to create.
+     * @return the ID of the created task.
+     */
+    @Operation(summary = "Create a new task (reactive)", description = "Creates a new task with the provided details.")
+    @PostMapping
+    public Mono<Long> createTask(@RequestBody TaskDto taskDto) {
+        logger.info("Received reactive request to create task with name: {}", taskDto.getName());
+        return reactiveTaskService.createTask(taskDto);
+    }
+
+    /**
+     * Retrieves a single task by its ID.
+     *
+     * @param id the ID of the task.
+     * @return the task.
+     */
+    @Operation(summary = "Get a task (reactive)", description = "Retrieves a task by its ID.")
+    @GetMapping("/{id}")
+    public Mono<Task> getTask(@Parameter(description = "ID of the task to retrieve") @PathVariable Long id) {
+        return reactiveTaskService.getTask(id);
+    }
+
+    /**
+     * Streams tasks in ID order.
+     *
+     * @param after the ID of the last task already seen (0 to start from the beginning).
+     * @param limit the maximum number of tasks to stream; all remaining tasks if omitted.
+     * @return the tasks.
+     */
+    @Operation(summary = "Stream tasks (reactive)", description = "Streams tasks with an ID greater than the cursor as NDJSON or server-sent events.")
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<Task> streamTasks(@Parameter(description = "Cursor: ID of the last task already seen") @RequestParam(defaultValue = "0") Long after,
+                                  @Parameter(description = "Maximum number of tasks") @RequestParam(required = false) Integer limit) {
+        logger.info("Received reactive request to stream tasks after ID: {} with limit: {}", after, limit);
+        return reactiveTaskService.streamTasks(after, limit);
+    }
+
+    /**
+     * Updates fields of a task.
+     *
+     * @param id      the ID of the task to update.
+     * @param taskDto the DTO containing the new task details.
+     * @return a ResponseEntity indicating the result of the update.
+     */
+    @Operation(summary = "Update task fields (reactive)", description = "Updates the fields of a task.")
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<String>> updateTaskFields(@Parameter(description = "ID of the task to update") @PathVariable Long id,
+                                                         @RequestBody TaskDto taskDto) {
+        logger.info("Received reactive request to update fields of task with ID: {}", id);
+        return reactiveTaskService.updateTaskFields(id, taskDto)
+                .thenReturn(ResponseEntity.ok("Task fields updated successfully."));
+    }
+
+    /**
+     * Deletes a task by its ID.
+     *
+     * @param id the ID of the task to delete.
+     * @return a ResponseEntity indicating the result of the deletion.
+     */
+    @Operation(summary = "Delete a task (reactive)", description = "Deletes a task by its ID.")
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteTask(@Parameter(description = "ID of the task to delete") @PathVariable Long id) {
+        logger.info("Received reactive request to delete task with ID: {}", id);
+        return reactiveTaskService.deleteTask(id)
+                .thenReturn(ResponseEntity.ok("Task deleted successfully."));
+    }
+}
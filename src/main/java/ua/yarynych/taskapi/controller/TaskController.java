@@ -1,21 +1,42 @@
 package ua.yarynych.taskapi.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.BulkResult;
 import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.dto.TaskFilter;
+import ua.yarynych.taskapi.entity.dto.TaskPage;
+import ua.yarynych.taskapi.entity.dto.TaskSearchPage;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.service.TaskBulkService;
+import ua.yarynych.taskapi.service.TaskChangeVersion;
+import ua.yarynych.taskapi.service.TaskSearchService;
 import ua.yarynych.taskapi.service.TaskService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Controller class for managing tasks. This class handles incoming HTTP requests related to tasks
  * and communicates with the TaskService to perform operations.
+ * Task listings carry an ETag derived from {@link TaskChangeVersion}; a request whose If-None-Match
+ * still matches gets 304 Not Modified without a database query.
  */
 @RestController
 @RequestMapping("/api/tasks")
@@ -23,10 +44,19 @@ public class TaskController {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskSearchService taskSearchService;
+    private final TaskChangeVersion taskChangeVersion;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskBulkService taskBulkService, TaskSearchService taskSearchService,
+                          TaskChangeVersion taskChangeVersion, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.taskBulkService = taskBulkService;
+        this.taskSearchService = taskSearchService;
+        this.taskChangeVersion = taskChangeVersion;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -38,12 +68,27 @@ public class TaskController {
     @Operation(summary = "Create a new task", description = "Creates a new task with the provided details.")
     @PostMapping("/create")
     public ResponseEntity<?> createTask(@RequestBody TaskDto taskDto) {
-        logger.info("Received request to create task: {}", taskDto);
+        logger.info("Received request to create task with name: {}", taskDto.getName());
         Long taskId = taskService.createTask(taskDto);
         logger.info("Task created with ID: {}", taskId);
         return ResponseEntity.ok("Task created with ID: " + taskId);
     }
 
+    /**
+     * Creates several tasks in one transaction.
+     *
+     * @param taskDtos the DTOs containing the details of the tasks to create.
+     * @return a ResponseEntity containing the IDs of the created tasks, in request order.
+     */
+    @Operation(summary = "Create tasks in bulk", description = "Validates and creates a batch of tasks in one transaction.")
+    @PostMapping("/batch")
+    public ResponseEntity<List<Long>> createTasks(@RequestBody List<TaskDto> taskDtos) {
+        logger.info("Received request to create {} tasks.", taskDtos.size());
+        List<Long> taskIds = taskService.createTasks(taskDtos);
+        logger.info("Created {} tasks.", taskIds.size());
+        return ResponseEntity.ok(taskIds);
+    }
+
     /**
      * Deletes a task by its ID.
      *
@@ -59,6 +104,56 @@ public class TaskController {
         return ResponseEntity.ok("Task deleted successfully.");
     }
 
+    /**
+     * Deletes many tasks, either by ID or by filter, in bounded chunks.
+     *
+     * @param ids           the IDs of the tasks to delete; cannot be combined with the filters.
+     * @param status        only delete tasks with this status.
+     * @param createdBefore only delete tasks created before this time.
+     * @return a ResponseEntity containing the number of deleted tasks.
+     */
+    @Operation(summary = "Delete tasks in bulk", description = "Deletes the listed tasks, or every task matching the status and creation date filters.")
+    @DeleteMapping
+    public ResponseEntity<BulkResult> deleteTasks(@Parameter(description = "IDs of the tasks to delete") @RequestParam(required = false) List<Long> ids,
+                                                  @Parameter(description = "Delete tasks with this status") @RequestParam(required = false) TaskStatus status,
+                                                  @Parameter(description = "Delete tasks created before this time") @RequestParam(required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore) {
+        TaskFilter filter = new TaskFilter(status, null, createdBefore, null);
+        if (ids != null && !filter.isEmpty()) {
+            throw new InvalidTaskStatusException("Delete either by IDs or by filter, not both.");
+        }
+
+        logger.info("Received request to delete tasks by {}.", ids != null ? "IDs" : "filter");
+        long deleted = ids != null ? taskBulkService.deleteByIds(ids) : taskBulkService.deleteMatching(filter);
+        logger.info("Deleted {} tasks.", deleted);
+        return ResponseEntity.ok(new BulkResult(deleted));
+    }
+
+    /**
+     * Moves every matching task from one status to another, in bounded chunks.
+     *
+     * @param from          the status the tasks must currently have.
+     * @param to            the new status.
+     * @param ids           only change these tasks.
+     * @param createdAfter  only change tasks created at or after this time.
+     * @param createdBefore only change tasks created before this time.
+     * @return a ResponseEntity containing the number of changed tasks.
+     */
+    @Operation(summary = "Update task statuses in bulk", description = "Moves every matching task from one status to another and publishes one aggregated change event per chunk.")
+    @PutMapping("/status")
+    public ResponseEntity<BulkResult> updateTaskStatuses(@Parameter(description = "Current status of the tasks") @RequestParam TaskStatus from,
+                                                         @Parameter(description = "New status for the tasks") @RequestParam TaskStatus to,
+                                                         @Parameter(description = "Only change these tasks") @RequestParam(required = false) List<Long> ids,
+                                                         @Parameter(description = "Only change tasks created at or after this time") @RequestParam(required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter,
+                                                         @Parameter(description = "Only change tasks created before this time") @RequestParam(required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore) {
+        logger.info("Received request to move tasks from {} to {}.", from, to);
+        long changed = taskBulkService.changeStatus(new TaskFilter(from, createdAfter, createdBefore, ids), to);
+        logger.info("Moved {} tasks from {} to {}.", changed, from, to);
+        return ResponseEntity.ok(new BulkResult(changed));
+    }
+
     /**
      * Updates the status of a task.
      *
@@ -94,16 +189,110 @@ public class TaskController {
     }
 
     /**
-     * Retrieves all tasks.
+     * Retrieves a single task by its ID.
+     *
+     * @param id the ID of the task.
+     * @return the task.
+     */
+    @Operation(summary = "Get a task", description = "Retrieves a task by its ID.")
+    @GetMapping("/{id}")
+    public Task getTask(@Parameter(description = "ID of the task to retrieve") @PathVariable Long id) {
+        logger.info("Received request to retrieve task with ID: {}", id);
+        return taskService.getTask(id);
+    }
+
+    /**
+     * Retrieves all tasks, as a JSON array or, if the client accepts application/x-ndjson, as one
+     * task per line streamed while the rows are read.
      *
-     * @return a list of all tasks.
+     * @param request the current request, checked against the ETag of the task list.
+     * @return a list of all tasks or a streaming body, or null once a 304 response has been prepared.
      */
-    @Operation(summary = "Get all tasks", description = "Retrieves a list of all tasks.")
+    @Operation(summary = "Get all tasks", description = "Retrieves a list of all tasks, streamed as NDJSON with Accept: application/x-ndjson. Send the returned ETag as If-None-Match to get 304 while nothing changed.")
     @GetMapping("/all")
-    public List<Task> getAllTasks() {
+    public ResponseEntity<?> getAllTasks(WebRequest request) {
+        boolean ndjson = NdjsonResponses.isRequested(request);
+        String eTag = taskChangeVersion.eTag(ndjson ? "tasks-ndjson" : "tasks");
+        if (request.checkNotModified(eTag)) {
+            logger.debug("Task list not modified since {}.", eTag);
+            return null;
+        }
+
+        if (ndjson) {
+            logger.info("Received request to stream all tasks as NDJSON.");
+            StreamingResponseBody body = NdjsonResponses.body(objectMapper, taskService::streamAllTasks);
+            return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).contentType(MediaType.APPLICATION_NDJSON).body(body);
+        }
+
         logger.info("Received request to retrieve all tasks.");
         List<Task> tasks = taskService.getAllTasks();
         logger.info("Retrieved {} tasks.", tasks.size());
-        return tasks;
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(tasks);
+    }
+
+    /**
+     * Retrieves one keyset-paginated page of tasks.
+     *
+     * @param after the ID of the last task of the previous page (0 for the first page).
+     * @param limit the maximum number of tasks to return.
+     * @param request the current request, checked against the ETag of the page.
+     * @return the page and the cursor for the next one, or null once a 304 response has been prepared.
+     */
+    @Operation(summary = "Get a page of tasks", description = "Retrieves tasks with an ID greater than the cursor, ordered by ID. Supports If-None-Match.")
+    @GetMapping
+    public ResponseEntity<TaskPage> getTasksPage(@Parameter(description = "Cursor: ID of the last task already seen") @RequestParam(defaultValue = "0") Long after,
+                                                 @Parameter(description = "Maximum page size") @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int limit,
+                                                 WebRequest request) {
+        String eTag = taskChangeVersion.eTag("page");
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        logger.info("Received request to retrieve tasks after ID: {} with limit: {}", after, limit);
+        return ResponseEntity.ok().eTag(eTag).body(taskService.getTasksPage(after, limit));
+    }
+
+    /**
+     * Searches task names and descriptions.
+     *
+     * @param q      the words to search for; every word must match.
+     * @param offset the number of best matches to skip.
+     * @param limit  the maximum number of tasks to return.
+     * @return the matching tasks, best match first, and the total number of matches.
+     */
+    @Operation(summary = "Search tasks", description = "Full-text search over task names and descriptions. Every word must match; results are ranked with name matches first.")
+    @GetMapping("/search")
+    public TaskSearchPage searchTasks(@Parameter(description = "Words to search for") @RequestParam String q,
+                                      @Parameter(description = "Number of best matches to skip") @RequestParam(defaultValue = "0") int offset,
+                                      @Parameter(description = "Maximum page size") @RequestParam(defaultValue = "" + TaskSearchService.DEFAULT_PAGE_SIZE) int limit) {
+        logger.info("Received request to search tasks at offset {} with limit {}.", offset, limit);
+        return taskSearchService.search(q, offset, limit);
+    }
+
+    /**
+     * Streams all tasks as a JSON array, writing each task as soon as it is read from the database.
+     *
+     * @return a streaming response body.
+     */
+    @Operation(summary = "Stream all tasks", description = "Streams every task as a JSON array without buffering the whole list.")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        logger.info("Received request to stream all tasks.");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                taskService.streamAllTasks(task -> writeTask(generator, task));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static void writeTask(JsonGenerator generator, Task task) {
+        try {
+            generator.writeObject(task);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
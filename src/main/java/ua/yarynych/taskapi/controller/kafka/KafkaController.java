@@ -1,19 +1,25 @@
 package ua.yarynych.taskapi.controller.kafka;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import ua.yarynych.taskapi.entity.Task;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ua.yarynych.taskapi.controller.NdjsonResponses;
+import ua.yarynych.taskapi.entity.dto.ConsumedTaskPage;
 import ua.yarynych.taskapi.service.kafka.KafkaConsumerService;
 
-import java.util.List;
-
 /**
  * REST controller for managing Kafka tasks.
  * This controller exposes endpoints to interact with Kafka consumer services.
@@ -23,28 +29,54 @@ import java.util.List;
 @Tag(name = "Kafka Controller", description = "Controller for handling Kafka operations")
 public class KafkaController {
 
+    public static final String NEXT_OFFSET_HEADER = "X-Next-Offset";
+
     private static final Logger logger = LoggerFactory.getLogger(KafkaController.class);
 
+    private final String generation = Long.toString(System.currentTimeMillis(), 36);
     private final KafkaConsumerService kafkaConsumerService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public KafkaController(KafkaConsumerService kafkaConsumerService) {
+    public KafkaController(KafkaConsumerService kafkaConsumerService, ObjectMapper objectMapper) {
         this.kafkaConsumerService = kafkaConsumerService;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * Retrieves the list of tasks consumed from Kafka.
+     * Retrieves a window of tasks consumed from Kafka.
+     * The ETag combines the buffer's sequence, read first, with the offset the window ends at, so it
+     * changes whenever a task is consumed and a window missing a task still being published is not
+     * mistaken for the complete one. A matching If-None-Match gets 304 without serializing the window.
+     * With {@code Accept: application/x-ndjson} the tasks are written one per line and the offset of
+     * the next window is returned in the {@value #NEXT_OFFSET_HEADER} header.
      *
-     * @return a ResponseEntity containing a list of tasks.
+     * @param offset  the sequence number of the first task to return.
+     * @param limit   the maximum number of tasks to return.
+     * @param request the current request, checked against the ETag of the window.
+     * @return a ResponseEntity containing the tasks and the offset of the next window, or null once a
+     *         304 response has been prepared.
      */
     @GetMapping("/tasks")
-    @Operation(summary = "Get consumed tasks", description = "Retrieves all tasks that have been consumed from Kafka")
-    public ResponseEntity<List<Task>> getTasksFromKafka() {
-        logger.info("Fetching tasks from Kafka.");
-
-        List<Task> tasks = kafkaConsumerService.getTasks();
-        logger.info("Retrieved {} tasks from Kafka.", tasks.size());
+    @Operation(summary = "Get consumed tasks", description = "Retrieves tasks that have been consumed from Kafka, starting at the given offset. Streamed as NDJSON with Accept: application/x-ndjson. Supports If-None-Match.")
+    public ResponseEntity<?> getTasksFromKafka(@Parameter(description = "Offset of the first task") @RequestParam(defaultValue = "0") long offset,
+                                               @Parameter(description = "Maximum number of tasks") @RequestParam(defaultValue = "100") int limit,
+                                               WebRequest request) {
+        boolean ndjson = NdjsonResponses.isRequested(request);
+        long version = kafkaConsumerService.getVersion();
+        ConsumedTaskPage page = kafkaConsumerService.getTasks(offset, limit);
+        String eTag = "W/\"consumed" + (ndjson ? "-ndjson-" : "-") + generation + "-" + version + "-" + page.getNextOffset() + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
 
-        return ResponseEntity.ok(tasks);
+        logger.info("Retrieved {} tasks from Kafka at offset {} with limit {}.", page.getTasks().size(), offset, limit);
+        if (ndjson) {
+            StreamingResponseBody body = NdjsonResponses.body(objectMapper, page.getTasks()::forEach);
+            return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+                    .header(NEXT_OFFSET_HEADER, String.valueOf(page.getNextOffset()))
+                    .contentType(MediaType.APPLICATION_NDJSON).body(body);
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(page);
     }
 }
@@ -0,0 +1,67 @@
+package ua.yarynych.taskapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing an event waiting to be published to Kafka.
+ * Rows are written in the same transaction as the change they describe and
+ * later relayed to the broker by a background job.
+ * This class is mapped to the "task_outbox" table in the database.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "task_outbox", indexes = @Index(name = "idx_task_outbox_published_at", columnList = "published_at"))
+public class OutboxEvent {
+
+    /**
+     * The unique identifier of the event; also defines the publishing order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_outbox_seq")
+    @SequenceGenerator(name = "task_outbox_seq", sequenceName = "task_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The Kafka topic the event is published to.
+     */
+    @Column(nullable = false)
+    private String topic;
+
+    /**
+     * The Kafka record key.
+     */
+    @Column(name = "message_key")
+    private String messageKey;
+
+    /**
+     * The event body, serialized as JSON.
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    /**
+     * The date and time when the event was recorded.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * The date and time when the broker acknowledged the event; null while pending.
+     */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+
+    public OutboxEvent(String topic, String messageKey, String payload) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import ua.yarynych.taskapi.entity.converters.TaskStatusConverter;
 import ua.yarynych.taskapi.entity.enums.TaskStatus;
 
 import java.time.LocalDateTime;
@@ -16,14 +17,17 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_name", columnList = "name"))
 public class Task {
 
     /**
      * The unique identifier of the task.
+     * Drawn from a pooled sequence so Hibernate can assign IDs without a round trip per insert
+     * and group inserts into JDBC batches.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -37,9 +41,10 @@ public class Task {
     private String description;
 
     /**
-     * The status of the task, represented by an enumeration.
+     * The status of the task, represented by an enumeration and stored as a SMALLINT code.
      */
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(columnDefinition = "smallint")
     private TaskStatus status;
 
     /**
@@ -47,6 +52,14 @@ public class Task {
      */
     private LocalDateTime created_date = LocalDateTime.now();
 
+    /**
+     * Optimistic-locking version, incremented by every update.
+     * Rows created before the column existed start at 0.
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
 
     /**
      * Sets the status of the task based on a string value.
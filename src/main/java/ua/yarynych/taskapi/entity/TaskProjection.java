@@ -0,0 +1,48 @@
+package ua.yarynych.taskapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ua.yarynych.taskapi.entity.converters.TaskStatusConverter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-side copy of a task as last seen on the "task_created" topic.
+ * Rows are bulk-upserted by the Kafka listener, one JDBC batch per polled batch.
+ * This class is mapped to the "task_projection" table in the database.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "task_projection")
+public class TaskProjection {
+
+    /**
+     * The ID of the task this row mirrors.
+     */
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    /**
+     * The status of the task, stored as a SMALLINT code like {@link Task#getStatus()}.
+     */
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(columnDefinition = "smallint")
+    private TaskStatus status;
+
+    private LocalDateTime created_date;
+
+    /**
+     * The date and time when the event was last consumed.
+     */
+    @Column(name = "consumed_at")
+    private LocalDateTime consumedAt;
+}
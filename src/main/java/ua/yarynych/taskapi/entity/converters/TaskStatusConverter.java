@@ -0,0 +1,24 @@
+package ua.yarynych.taskapi.entity.converters;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+/**
+ * Stores a {@link TaskStatus} as its numeric code in a SMALLINT column instead of the constant name,
+ * which keeps task rows and indexes on the status column small.
+ * Query parameters compared with a converted attribute are converted as well.
+ */
+@Converter
+public class TaskStatusConverter implements AttributeConverter<TaskStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public TaskStatus convertToEntityAttribute(Short code) {
+        return code != null ? TaskStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,13 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a bulk operation on tasks.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkResult {
+    private final long affected;
+}
@@ -0,0 +1,18 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ua.yarynych.taskapi.entity.Task;
+
+import java.util.List;
+
+/**
+ * A window of tasks consumed from Kafka, oldest first.
+ * The next window is requested with {@code offset=nextOffset}.
+ */
+@Getter
+@AllArgsConstructor
+public class ConsumedTaskPage {
+    private final List<Task> tasks;
+    private final long nextOffset;
+}
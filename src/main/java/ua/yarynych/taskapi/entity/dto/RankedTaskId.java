@@ -0,0 +1,14 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The ID of a task matching a search, with its relevance score; higher scores rank first.
+ */
+@Getter
+@AllArgsConstructor
+public class RankedTaskId {
+    private final long id;
+    private final double score;
+}
@@ -11,4 +11,9 @@ public class TaskDto {
     private String name;
     private String description;
     private String status;
+    /**
+     * Version of the task the client last read. When set on an update, the update only applies
+     * if the task has not changed since.
+     */
+    private Long version;
 }
@@ -0,0 +1,27 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Criteria selecting the tasks a bulk operation applies to. Null fields do not restrict the selection.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskFilter {
+    private final TaskStatus status;
+    private final LocalDateTime createdAfter;
+    private final LocalDateTime createdBefore;
+    private final Collection<Long> ids;
+
+    /**
+     * @return true if no criterion is set, i.e. the filter would select every task.
+     */
+    public boolean isEmpty() {
+        return status == null && createdAfter == null && createdBefore == null && ids == null;
+    }
+}
@@ -0,0 +1,18 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ua.yarynych.taskapi.entity.Task;
+
+import java.util.List;
+
+/**
+ * A single keyset-paginated page of tasks.
+ * The next page is requested with {@code after=nextCursor}; a null cursor marks the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskPage {
+    private final List<Task> tasks;
+    private final Long nextCursor;
+}
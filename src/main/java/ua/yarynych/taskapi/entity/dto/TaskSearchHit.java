@@ -0,0 +1,15 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ua.yarynych.taskapi.entity.Task;
+
+/**
+ * A task matching a search, with its relevance score.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSearchHit {
+    private final Task task;
+    private final double score;
+}
@@ -0,0 +1,17 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of search results, best match first, with the total number of matching tasks.
+ * The next page is requested with {@code offset} advanced by the page size.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSearchPage {
+    private final List<TaskSearchHit> hits;
+    private final long total;
+}
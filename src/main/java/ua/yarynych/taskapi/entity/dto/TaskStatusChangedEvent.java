@@ -0,0 +1,27 @@
+package ua.yarynych.taskapi.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregated "task_status_changed" event: one event covers every task moved by one chunk of a
+ * bulk status transition. All chunks of the same request share the operation ID.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusChangedEvent {
+    private String operationId;
+    private TaskStatus from;
+    private TaskStatus to;
+    private int count;
+    private Long firstTaskId;
+    private Long lastTaskId;
+    private LocalDateTime changedAt;
+}
@@ -4,19 +4,61 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Set;
+import java.util.TreeMap;
+
 /**
  * Enumeration representing the possible statuses of a Task.
  */
 @AllArgsConstructor
 @Getter
 public enum TaskStatus {
-    PENDING("Pending"),
-    IN_PROGRESS("In Progress"),
-    COMPLETED("Completed"),
-    CANCELLED("Cancelled");
+    PENDING("Pending", (short) 0),
+    IN_PROGRESS("In Progress", (short) 1),
+    COMPLETED("Completed", (short) 2),
+    CANCELLED("Cancelled", (short) 3);
+
+    /**
+     * Statuses by display value. The comparator matches case-insensitively without creating
+     * lower-cased copies of the looked-up string.
+     */
+    private static final TreeMap<String, TaskStatus> BY_VALUE = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Statuses indexed by their stored code.
+     */
+    private static final TaskStatus[] BY_CODE = new TaskStatus[values().length];
+
+    static {
+        for (TaskStatus status : values()) {
+            BY_VALUE.put(status.value, status);
+            BY_CODE[status.code] = status;
+        }
+    }
 
     private final String value;
 
+    /**
+     * Stable numeric code used to store the status in the database. Unlike the ordinal it does not
+     * change if constants are reordered; new statuses must take the next free code.
+     */
+    private final short code;
+
+    /**
+     * Gets the statuses a task may be in to move to this status.
+     * Open tasks can move freely between pending and in progress and can be closed either way;
+     * completed and cancelled tasks are final. Setting a status a task already has is always allowed.
+     *
+     * @return the allowed predecessor statuses.
+     */
+    public Set<TaskStatus> getAllowedPredecessors() {
+        return switch (this) {
+            case PENDING, IN_PROGRESS -> Set.of(PENDING, IN_PROGRESS);
+            case COMPLETED -> Set.of(PENDING, IN_PROGRESS, COMPLETED);
+            case CANCELLED -> Set.of(PENDING, IN_PROGRESS, CANCELLED);
+        };
+    }
+
     /**
      * Gets the TaskStatus from a string value.
      *
@@ -24,11 +66,33 @@ public enum TaskStatus {
      * @return the corresponding TaskStatus.
      */
     public static TaskStatus fromValue(String value) {
-        for (TaskStatus status : TaskStatus.values()) {
-            if (status.getValue().equalsIgnoreCase(value)) {
-                return status;
-            }
+        TaskStatus status = fromValueOrNull(value);
+        if (status == null) {
+            throw new IllegalArgumentException("Invalid status value: " + value);
+        }
+        return status;
+    }
+
+    /**
+     * Gets the TaskStatus from a string value, ignoring case, without throwing on a miss.
+     *
+     * @param value the string value representing the status.
+     * @return the corresponding TaskStatus, or null if the value is null or unknown.
+     */
+    public static TaskStatus fromValueOrNull(String value) {
+        return value != null ? BY_VALUE.get(value) : null;
+    }
+
+    /**
+     * Gets the TaskStatus stored under the given code.
+     *
+     * @param code the stored code.
+     * @return the corresponding TaskStatus.
+     */
+    public static TaskStatus fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Invalid status code: " + code);
         }
-        throw new IllegalArgumentException("Invalid status value: " + value);
+        return BY_CODE[code];
     }
 }
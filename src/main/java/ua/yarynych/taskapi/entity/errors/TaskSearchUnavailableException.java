@@ -0,0 +1,10 @@
+package ua.yarynych.taskapi.entity.errors;
+
+/**
+ * Exception thrown when a search arrives before the search index has been built.
+ */
+public class TaskSearchUnavailableException extends RuntimeException {
+    public TaskSearchUnavailableException(String message) {
+        super(message);
+    }
+}
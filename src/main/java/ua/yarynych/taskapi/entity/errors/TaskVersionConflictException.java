@@ -0,0 +1,10 @@
+package ua.yarynych.taskapi.entity.errors;
+
+/**
+ * Exception thrown when a task was changed by someone else since the version the client read.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+    public TaskVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,221 @@
+package ua.yarynych.taskapi.repository;
+
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Non-blocking access to the "tasks" and "task_outbox" tables over R2DBC.
+ * Statements join the reactive transaction of the subscriber, if any. IDs are drawn from the same
+ * sequences Hibernate uses; each value is taken as an ID directly, which never collides with the
+ * blocks Hibernate's pooled optimizer reserves.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+    static final String TASK_COLUMNS = "id, name, description, status, created_date, version";
+    static final String TASKS_SEQUENCE = "tasks_seq";
+    static final String OUTBOX_SEQUENCE = "task_outbox_seq";
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    @Autowired
+    public ReactiveTaskRepository(DatabaseClient databaseClient,
+                                  @Value("${task-api.r2dbc.fetch-size:500}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Finds a task by its ID.
+     *
+     * @param id the ID of the task.
+     * @return the task, or an empty Mono if it does not exist.
+     */
+    public Mono<Task> findById(Long id) {
+        return databaseClient.sql("SELECT " + TASK_COLUMNS + " FROM tasks WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toTask(row))
+                .one();
+    }
+
+    /**
+     * Streams tasks in ID order. Rows are fetched from the database as the subscriber requests
+     * them, so a slow consumer holds back the query instead of buffering the table.
+     *
+     * @param afterId only tasks with a greater ID are returned.
+     * @param limit the maximum number of tasks, or null for all of them.
+     * @return the tasks.
+     */
+    public Flux<Task> streamAfter(long afterId, Integer limit) {
+        String sql = "SELECT " + TASK_COLUMNS + " FROM tasks WHERE id > :afterId ORDER BY id"
+                + (limit != null ? " LIMIT :limit" : "");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("afterId", afterId)
+                .filter(statement -> statement.fetchSize(fetchSize));
+        if (limit != null) {
+            spec = spec.bind("limit", limit);
+        }
+        return spec.map((row, metadata) -> toTask(row)).all();
+    }
+
+    /**
+     * Checks whether a task with the given name exists.
+     *
+     * @param name the task name.
+     * @return true if the name is taken.
+     */
+    public Mono<Boolean> existsByName(String name) {
+        return databaseClient.sql("SELECT 1 FROM tasks WHERE name = :name LIMIT 1")
+                .bind("name", name)
+                .map((row, metadata) -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Inserts a new task and assigns its ID and initial version.
+     *
+     * @param task the task to insert; its status must be set.
+     * @return the inserted task.
+     */
+    public Mono<Task> insert(Task task) {
+        return nextValue(TASKS_SEQUENCE).flatMap(id -> databaseClient.sql(
+                        "INSERT INTO tasks (" + TASK_COLUMNS + ") "
+                                + "VALUES (:id, :name, :description, :status, :createdDate, 0)")
+                .bind("id", id)
+                .bind("name", task.getName())
+                .bind("description", task.getDescription())
+                .bind("status", task.getStatus().getCode())
+                .bind("createdDate", task.getCreated_date())
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> {
+                    task.setId(id);
+                    task.setVersion(0L);
+                    return task;
+                }));
+    }
+
+    /**
+     * Inserts a pending outbox event.
+     *
+     * @param topic the Kafka topic.
+     * @param key the Kafka record key.
+     * @param payload the event body, serialized as JSON.
+     * @return a Mono completing once the row is written.
+     */
+    public Mono<Void> insertOutboxEvent(String topic, String key, String payload) {
+        return nextValue(OUTBOX_SEQUENCE).flatMap(id -> databaseClient.sql(
+                        "INSERT INTO task_outbox (id, topic, message_key, payload, created_at) "
+                                + "VALUES (:id, :topic, :key, :payload, :createdAt)")
+                .bind("id", id)
+                .bind("topic", topic)
+                .bind("key", key)
+                .bind("payload", payload)
+                .bind("createdAt", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated())
+                .then();
+    }
+
+    /**
+     * Updates the given fields of a task in a single statement; null fields are left unchanged.
+     * Same rules as {@link TaskRepositoryCustom#updateFields}.
+     *
+     * @return the number of updated rows: 1 on success, 0 if the task does not exist, the status
+     *         transition is not allowed, the version does not match or a required rename would not change the name.
+     */
+    public Mono<Long> updateFields(Long id, String name, String description, TaskStatus status, Long expectedVersion,
+                                   boolean requireRename) {
+        StringBuilder sql = new StringBuilder("UPDATE tasks SET version = COALESCE(version, 0) + 1");
+        if (name != null) {
+            sql.append(", name = :name");
+        }
+        if (description != null) {
+            sql.append(", description = :description");
+        }
+        if (status != null) {
+            sql.append(", status = :status");
+        }
+        sql.append(" WHERE id = :id");
+        if (name != null && requireRename) {
+            sql.append(" AND name <> :name");
+        }
+        if (status != null) {
+            sql.append(" AND status IN (:allowed)");
+        }
+        if (expectedVersion != null) {
+            sql.append(" AND version = :version");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("id", id);
+        if (name != null) {
+            spec = spec.bind("name", name);
+        }
+        if (description != null) {
+            spec = spec.bind("description", description);
+        }
+        if (status != null) {
+            spec = spec.bind("status", status.getCode()).bind("allowed", codes(status.getAllowedPredecessors()));
+        }
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * Deletes a task in a single statement.
+     *
+     * @return the number of deleted rows: 1 if the task existed, 0 otherwise.
+     */
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM tasks WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    static String nextValueSql(String databaseProduct, String sequence) {
+        return "PostgreSQL".equalsIgnoreCase(databaseProduct)
+                ? "SELECT nextval('" + sequence + "')"
+                : "SELECT NEXT VALUE FOR " + sequence;
+    }
+
+    private Mono<Long> nextValue(String sequence) {
+        // The routing connection factory may hand out either database, so ask the connection.
+        return databaseClient.inConnection(connection -> Mono.just(connection.getMetadata().getDatabaseProductName()))
+                .flatMap(product -> databaseClient.sql(nextValueSql(product, sequence))
+                        .map((row, metadata) -> row.get(0, Long.class))
+                        .one());
+    }
+
+    private static Collection<Short> codes(Collection<TaskStatus> statuses) {
+        return statuses.stream().map(TaskStatus::getCode).toList();
+    }
+
+    private static Task toTask(Row row) {
+        Task task = new Task();
+        task.setId(row.get("id", Long.class));
+        task.setName(row.get("name", String.class));
+        task.setDescription(row.get("description", String.class));
+        Short status = row.get("status", Short.class);
+        if (status != null) {
+            task.setStatus(TaskStatus.fromCode(status).getValue());
+        }
+        task.setCreated_date(row.get("created_date", LocalDateTime.class));
+        task.setVersion(row.get("version", Long.class));
+        return task;
+    }
+}
@@ -0,0 +1,88 @@
+package ua.yarynych.taskapi.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ua.yarynych.taskapi.entity.Task;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access to the "task_projection" table.
+ * Upserts are sent as one JDBC batch; the statement is chosen per connection because the
+ * routing data source may point at either H2 or PostgreSQL.
+ */
+@Repository
+public class TaskProjectionRepository {
+
+    static final String H2_UPSERT =
+            "MERGE INTO task_projection (id, name, description, status, created_date, consumed_at) KEY (id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    static final String POSTGRES_UPSERT =
+            "INSERT INTO task_projection (id, name, description, status, created_date, consumed_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, "
+                    + "status = EXCLUDED.status, created_date = EXCLUDED.created_date, consumed_at = EXCLUDED.consumed_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TaskProjectionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts or replaces the projection rows of the given tasks in a single JDBC batch.
+     *
+     * @param tasks the tasks to upsert.
+     * @return the number of tasks written.
+     */
+    public int upsertAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        Integer written = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(upsertSql(connection))) {
+                Timestamp consumedAt = Timestamp.valueOf(LocalDateTime.now());
+                for (Task task : tasks) {
+                    bind(statement, task, consumedAt);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                return tasks.size();
+            }
+        });
+        return written != null ? written : 0;
+    }
+
+    private static String upsertSql(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        return "PostgreSQL".equalsIgnoreCase(product) ? POSTGRES_UPSERT : H2_UPSERT;
+    }
+
+    private static void bind(PreparedStatement statement, Task task, Timestamp consumedAt) throws SQLException {
+        statement.setLong(1, task.getId());
+        statement.setString(2, task.getName());
+        statement.setString(3, task.getDescription());
+        if (task.getStatus() != null) {
+            statement.setShort(4, task.getStatus().getCode());
+        } else {
+            statement.setNull(4, Types.SMALLINT);
+        }
+        if (task.getCreated_date() != null) {
+            statement.setTimestamp(5, Timestamp.valueOf(task.getCreated_date()));
+        } else {
+            statement.setNull(5, Types.TIMESTAMP);
+        }
+        statement.setTimestamp(6, consumedAt);
+    }
+}
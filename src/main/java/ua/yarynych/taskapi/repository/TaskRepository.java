@@ -1,9 +1,22 @@
 package ua.yarynych.taskapi.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 @EnableJpaRepositories(
@@ -11,6 +24,106 @@ import ua.yarynych.taskapi.entity.Task;
         entityManagerFactoryRef = "primaryEntityManagerFactory",
         transactionManagerRef = "primaryTransactionManager"
 )
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
     boolean existsByName(String name);
+
+    /**
+     * Returns which of the given names are already taken, in a single query.
+     */
+    @Query("select t.name from Task t where t.name in :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    /**
+     * Keyset page: tasks with an ID strictly greater than the given cursor, in ID order.
+     */
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Streams all tasks in ID order using a JDBC fetch size, so rows are pulled from the
+     * database in chunks instead of being materialized at once. Must be consumed inside a
+     * transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAllOrderedById();
+
+    /**
+     * Streams the names of all tasks with a JDBC fetch size. Must be consumed inside a
+     * transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t.name from Task t")
+    Stream<String> streamAllNames();
+
+    /**
+     * Streams the searchable text of all tasks with a JDBC fetch size, as projections rather than
+     * managed entities. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t.id as id, t.name as name, t.description as description from Task t")
+    Stream<SearchableText> streamAllSearchableText();
+
+    /**
+     * The fields of a task covered by full-text search.
+     */
+    interface SearchableText {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+    }
+
+    /**
+     * Sets the status of a task in a single statement, only if its current status is one of the
+     * allowed predecessors.
+     *
+     * @return the number of updated rows: 1 on success, 0 if the task does not exist or the
+     *         transition is not allowed.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Task t set t.status = :status, t.version = coalesce(t.version, 0) + 1 where t.id = :id and t.status in :allowed")
+    int updateStatus(@Param("id") Long id, @Param("status") TaskStatus status,
+                     @Param("allowed") Collection<TaskStatus> allowed);
+
+    /**
+     * Deletes a task in a single statement, without loading it first.
+     *
+     * @return the number of deleted rows: 1 if the task existed, 0 otherwise.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.id = :id")
+    int deleteTaskById(@Param("id") Long id);
+
+    /**
+     * Deletes the given tasks in a single statement. Missing IDs are ignored.
+     *
+     * @return the number of deleted rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteTasksByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Moves the given tasks from one status to another in a single statement. Tasks no longer in
+     * the source status are left unchanged.
+     *
+     * @return the number of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Task t set t.status = :to, t.version = coalesce(t.version, 0) + 1 where t.id in :ids and t.status = :from")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("from") TaskStatus from, @Param("to") TaskStatus to);
 }
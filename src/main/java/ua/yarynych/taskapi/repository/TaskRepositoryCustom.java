@@ -0,0 +1,55 @@
+package ua.yarynych.taskapi.repository;
+
+import ua.yarynych.taskapi.entity.dto.RankedTaskId;
+import ua.yarynych.taskapi.entity.dto.TaskFilter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.util.List;
+
+/**
+ * Task repository operations that Spring Data cannot derive.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Updates only the given fields of a task in a single UPDATE statement and increments its version.
+     * Null arguments leave the corresponding column untouched.
+     *
+     * @param id the ID of the task.
+     * @param name the new name, or null.
+     * @param description the new description, or null.
+     * @param status the new status, or null; when set, the current status must be one of its allowed predecessors.
+     * @param expectedVersion the version the caller last read, or null to skip the optimistic check.
+     * @param requireRename when true and a name is given, only update the task if its current name differs.
+     * @return the number of updated rows: 1 on success, 0 if the task does not exist, the status
+     *         transition is not allowed, the version does not match or a required rename would not change the name.
+     */
+    int updateFields(Long id, String name, String description, TaskStatus status, Long expectedVersion, boolean requireRename);
+
+    /**
+     * Keyset chunk of the IDs of tasks matching a filter.
+     *
+     * @param filter the criteria to match.
+     * @param afterId only IDs greater than this are returned.
+     * @param limit the maximum number of IDs to return.
+     * @return matching IDs in ascending order.
+     */
+    List<Long> findIdsMatching(TaskFilter filter, long afterId, int limit);
+
+    /**
+     * Ranked PostgreSQL full-text search over task names and descriptions; every word of the query
+     * must match and name matches weigh more. Only valid while connected to PostgreSQL. Without an
+     * index on {@link TaskRepositoryCustomImpl#SEARCH_DOCUMENT} every search scans the table.
+     *
+     * @param query the words to search for.
+     * @param offset the number of best matches to skip.
+     * @param limit the maximum number of matches to return.
+     * @return the matching task IDs, best match first.
+     */
+    List<RankedTaskId> searchFullText(String query, int offset, int limit);
+
+    /**
+     * @return the number of tasks {@link #searchFullText} matches in total.
+     */
+    long countFullText(String query);
+}
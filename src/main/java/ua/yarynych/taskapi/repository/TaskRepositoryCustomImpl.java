@@ -0,0 +1,127 @@
+package ua.yarynych.taskapi.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.RankedTaskId;
+import ua.yarynych.taskapi.entity.dto.TaskFilter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria-based implementation of {@link TaskRepositoryCustom}.
+ * Statements are built from the supplied fields and filter criteria only: partial updates never
+ * rewrite unchanged columns or load the entity first, and bulk selections only carry the
+ * conditions that are actually set.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    /**
+     * The PostgreSQL text search document of a task: name words weighted A, description words B.
+     * The "simple" configuration lower-cases words without stemming, like the in-memory index. To
+     * let searches use an index instead of scanning, create it once with:
+     * {@code CREATE INDEX idx_tasks_search ON tasks USING gin ((<this expression>))}.
+     */
+    static final String SEARCH_DOCUMENT = "(setweight(to_tsvector('simple', coalesce(name, '')), 'A') || "
+            + "setweight(to_tsvector('simple', coalesce(description, '')), 'B'))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateFields(Long id, String name, String description, TaskStatus status, Long expectedVersion, boolean requireRename) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(cb.equal(task.get("id"), id));
+
+        if (name != null) {
+            update.set(task.<String>get("name"), name);
+            if (requireRename) {
+                conditions.add(cb.notEqual(task.get("name"), name));
+            }
+        }
+        if (description != null) {
+            update.set(task.<String>get("description"), description);
+        }
+        if (status != null) {
+            update.set(task.<TaskStatus>get("status"), status);
+            conditions.add(task.get("status").in(status.getAllowedPredecessors()));
+        }
+        if (expectedVersion != null) {
+            conditions.add(cb.equal(task.get("version"), expectedVersion));
+        }
+        update.set(task.<Long>get("version"), cb.sum(cb.coalesce(task.<Long>get("version"), 0L), 1L));
+
+        update.where(conditions.toArray(new Predicate[0]));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public List<Long> findIdsMatching(TaskFilter filter, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(cb.greaterThan(task.get("id"), afterId));
+        if (filter.getStatus() != null) {
+            conditions.add(cb.equal(task.get("status"), filter.getStatus()));
+        }
+        if (filter.getCreatedAfter() != null) {
+            conditions.add(cb.greaterThanOrEqualTo(task.<LocalDateTime>get("created_date"), filter.getCreatedAfter()));
+        }
+        if (filter.getIds() != null) {
+            conditions.add(task.get("id").in(filter.getIds()));
+        }
+        if (filter.getCreatedBefore() != null) {
+            conditions.add(cb.lessThan(task.<LocalDateTime>get("created_date"), filter.getCreatedBefore()));
+        }
+
+        query.select(task.get("id"))
+                .where(conditions.toArray(new Predicate[0]))
+                .orderBy(cb.asc(task.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<RankedTaskId> searchFullText(String query, int offset, int limit) {
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT id, ts_rank(" + SEARCH_DOCUMENT + ", q) AS rank "
+                                + "FROM tasks, plainto_tsquery('simple', :query) q "
+                                + "WHERE " + SEARCH_DOCUMENT + " @@ q "
+                                + "ORDER BY rank DESC, id LIMIT :limit OFFSET :offset")
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+
+        List<RankedTaskId> ranked = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            ranked.add(new RankedTaskId(((Number) columns[0]).longValue(), ((Number) columns[1]).doubleValue()));
+        }
+        return ranked;
+    }
+
+    @Override
+    public long countFullText(String query) {
+        Object count = entityManager.createNativeQuery(
+                        "SELECT count(*) FROM tasks WHERE " + SEARCH_DOCUMENT + " @@ plainto_tsquery('simple', :query)")
+                .setParameter("query", query)
+                .getSingleResult();
+        return ((Number) count).longValue();
+    }
+}
@@ -0,0 +1,112 @@
+package ua.yarynych.taskapi.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * <p>
+ * {@link #mightContain(String)} never returns false for a value that was added; it may return
+ * true for a value that was not, with roughly the configured probability while the number of
+ * insertions stays within the expected count. Values cannot be removed.
+ * Bits are set with atomic OR operations, so adds and lookups never block each other.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * @param expectedInsertions the number of values the filter is sized for.
+     * @param falsePositiveRate the target false positive probability, between 0 and 1 exclusive.
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive and the false positive rate within (0, 1).");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @return true if the filter changed, false if the value was already reported as a possible hit.
+     */
+    public boolean put(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(index) & mask) == 0
+                    && (words.getAndAccumulate(index, mask, (current, add) -> current | add) & mask) == 0) {
+                changed = true;
+            }
+        }
+        // Repeats do not use up capacity, so only values that set a bit count towards saturation.
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+        return changed;
+    }
+
+    /**
+     * @return false if the value was definitely never added, true if it may have been.
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return how many added values changed the filter; repeats are not counted.
+     */
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    /**
+     * @return true once more values were added than the filter was sized for.
+     */
+    public boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    // FNV-1a over the UTF-16 code units, finished with a 64-bit avalanche step.
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
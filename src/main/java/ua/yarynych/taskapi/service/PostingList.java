@@ -0,0 +1,129 @@
+package ua.yarynych.taskapi.service;
+
+/**
+ * The tasks containing one search term, each with the weight of the term in that task.
+ * <p>
+ * Stored as an open-addressing hash table of primitive task IDs and weights, so a posting costs
+ * a few bytes instead of a boxed map entry, and membership checks during query intersection are
+ * constant time. Removals shift the following entries back instead of leaving tombstones.
+ * Not thread-safe; {@link TaskSearchIndex} guards every access.
+ */
+final class PostingList {
+
+    // Task IDs come from a sequence starting at 1, so 0 never occurs as a key.
+    private static final long EMPTY = 0L;
+
+    private final String term;
+    private long[] ids;
+    private float[] weights;
+    private int mask;
+    private int size;
+
+    PostingList(String term) {
+        this.term = term;
+        this.ids = new long[4];
+        this.weights = new float[4];
+        this.mask = 3;
+    }
+
+    /**
+     * @return the term, shared by every document that contains it.
+     */
+    String term() {
+        return term;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the weight of the term in the task, or 0 if the task does not contain it.
+     */
+    float get(long id) {
+        for (int i = slot(id); ; i = (i + 1) & mask) {
+            long current = ids[i];
+            if (current == id) {
+                return weights[i];
+            }
+            if (current == EMPTY) {
+                return 0f;
+            }
+        }
+    }
+
+    void put(long id, float weight) {
+        if ((size + 1) * 4L > ids.length * 3L) {
+            resize(ids.length * 2);
+        }
+        int i = slot(id);
+        while (ids[i] != EMPTY && ids[i] != id) {
+            i = (i + 1) & mask;
+        }
+        if (ids[i] == EMPTY) {
+            size++;
+        }
+        ids[i] = id;
+        weights[i] = weight;
+    }
+
+    boolean remove(long id) {
+        int gap = slot(id);
+        while (ids[gap] != id) {
+            if (ids[gap] == EMPTY) {
+                return false;
+            }
+            gap = (gap + 1) & mask;
+        }
+        // Move later entries of the probe run into the gap unless that would put them before their home slot.
+        for (int i = (gap + 1) & mask; ids[i] != EMPTY; i = (i + 1) & mask) {
+            int home = slot(ids[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                ids[gap] = ids[i];
+                weights[gap] = weights[i];
+                gap = i;
+            }
+        }
+        ids[gap] = EMPTY;
+        weights[gap] = 0f;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return the number of slots; iterate them with {@link #idAt} and skip the empty ones.
+     */
+    int capacity() {
+        return ids.length;
+    }
+
+    /**
+     * @return the task ID in the slot, or 0 if the slot is empty.
+     */
+    long idAt(int slot) {
+        return ids[slot];
+    }
+
+    float weightAt(int slot) {
+        return weights[slot];
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldIds = ids;
+        float[] oldWeights = weights;
+        ids = new long[capacity];
+        weights = new float[capacity];
+        mask = capacity - 1;
+        size = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                put(oldIds[i], oldWeights[i]);
+            }
+        }
+    }
+}
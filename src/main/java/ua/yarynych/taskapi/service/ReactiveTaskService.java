@@ -0,0 +1,284 @@
+package ua.yarynych.taskapi.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.entity.errors.TaskAlreadyExistsException;
+import ua.yarynych.taskapi.entity.errors.TaskLimitReachedException;
+import ua.yarynych.taskapi.entity.errors.TaskNotFoundException;
+import ua.yarynych.taskapi.entity.errors.TaskVersionConflictException;
+import ua.yarynych.taskapi.repository.ReactiveTaskRepository;
+import ua.yarynych.taskapi.service.kafka.TaskEventOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link TaskService} for the reactive endpoints.
+ * It applies the same validation rules and shares the in-memory name filter, admission counter and
+ * task cache with it; single tasks are read through the cache. Database work runs over R2DBC, so no thread is parked while a query is in
+ * flight. Events are written to the outbox in the same reactive transaction as the change and
+ * published to Kafka by the outbox relay.
+ */
+@Service
+public class ReactiveTaskService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTaskService.class);
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final TaskEventOutbox taskEventOutbox;
+    private final TaskNameFilter taskNameFilter;
+    private final TaskAdmissionCounter taskAdmissionCounter;
+    private final TaskCache taskCache;
+    private final TaskChangeVersion taskChangeVersion;
+    private final TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    public ReactiveTaskService(ReactiveTaskRepository reactiveTaskRepository, TransactionalOperator transactionalOperator,
+                               TaskEventOutbox taskEventOutbox, TaskNameFilter taskNameFilter,
+                               TaskAdmissionCounter taskAdmissionCounter, TaskCache taskCache,
+                               TaskChangeVersion taskChangeVersion, TaskSearchIndex taskSearchIndex) {
+        this.reactiveTaskRepository = reactiveTaskRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.taskEventOutbox = taskEventOutbox;
+        this.taskNameFilter = taskNameFilter;
+        this.taskAdmissionCounter = taskAdmissionCounter;
+        this.taskCache = taskCache;
+        this.taskChangeVersion = taskChangeVersion;
+        this.taskSearchIndex = taskSearchIndex;
+    }
+
+    /**
+     * Creates a new task. The task and its "task_created" outbox event are inserted in one
+     * reactive transaction.
+     *
+     * @param taskDto the DTO containing task details.
+     * @return the ID of the created task.
+     */
+    public Mono<Long> createTask(TaskDto taskDto) {
+        return Mono.defer(() -> {
+            validateTaskFields(taskDto);
+
+            // Most names are new; the filter rules them out without a database round trip.
+            Mono<Boolean> nameTaken = taskNameFilter.mightContain(taskDto.getName())
+                    ? reactiveTaskRepository.existsByName(taskDto.getName())
+                    : Mono.just(false);
+            return nameTaken.flatMap(taken -> {
+                if (taken) {
+                    logger.error("Task with name '{}' already exists.", taskDto.getName());
+                    return Mono.<Task>error(new TaskAlreadyExistsException("Task with this name already exists."));
+                }
+                return admissionCounterReady().then(Mono.defer(() -> {
+                    // There is no thread-bound transaction here, so the reservation is settled explicitly:
+                    // completion means committed, while an error or a cancellation rolls the insert back.
+                    if (!taskAdmissionCounter.tryReserveInFlight(1)) {
+                        return Mono.<Task>error(new TaskLimitReachedException("Task limit reached."));
+                    }
+                    return insertWithEvent(newTask(taskDto))
+                            .doFinally(signal -> taskAdmissionCounter.complete(1, signal == SignalType.ON_COMPLETE));
+                }));
+            });
+        }).map(task -> {
+            taskNameFilter.addAll(List.of(task.getName()));
+            taskSearchIndex.addAll(List.of(task));
+            taskChangeVersion.bump();
+            logger.info("Task created with ID: {}", task.getId());
+            return task.getId();
+        });
+    }
+
+
+    /**
+     * Retrieves a single task.
+     *
+     * @param id the ID of the task.
+     * @return the task, or a TaskNotFoundException error.
+     */
+    public Mono<Task> getTask(Long id) {
+        return Mono.defer(() -> {
+            Optional<Task> cached = taskCache.getIfPresent(id);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
+            }
+            long stamp = taskCache.evictionStamp();
+            return reactiveTaskRepository.findById(id)
+                    .doOnNext(task -> taskCache.putIfNotEvicted(task, stamp));
+        }).switchIfEmpty(Mono.error(() -> {
+            logger.error("Task with ID '{}' not found.", id);
+            return new TaskNotFoundException("Task not found");
+        }));
+    }
+
+
+    /**
+     * Streams tasks in ID order, reading rows only as fast as the subscriber consumes them.
+     *
+     * @param afterId the cursor; only tasks with a greater ID are returned.
+     * @param limit the maximum number of tasks, or null for all remaining tasks.
+     * @return the tasks.
+     */
+    public Flux<Task> streamTasks(Long afterId, Integer limit) {
+        if (limit != null && limit < 1) {
+            return Flux.error(new InvalidTaskStatusException("Limit must be positive."));
+        }
+        return reactiveTaskRepository.streamAfter(afterId != null ? afterId : 0L, limit);
+    }
+
+
+    /**
+     * Updates the fields of a task without loading it, with the same rules as
+     * {@link TaskService#updateTaskFields}. The task is only read if nothing was updated, to report why.
+     *
+     * @param id the ID of the task to update.
+     * @param taskDto the DTO containing the new task details.
+     * @return a Mono completing once the task is updated, or an InvalidTaskStatusException error if the
+     *         DTO sets none of name, description and status.
+     */
+    public Mono<Void> updateTaskFields(Long id, TaskDto taskDto) {
+        return Mono.defer(() -> {
+            if (taskDto.getName() == null && taskDto.getDescription() == null && taskDto.getStatus() == null) {
+                logger.error("No fields to update for task with ID '{}'.", id);
+                return Mono.error(new InvalidTaskStatusException("At least one of name, description or status must be set."));
+            }
+            TaskStatus status = taskDto.getStatus() != null ? parseStatus(taskDto.getStatus()) : null;
+
+            logger.info("Updating fields of task with ID: {}", id);
+            Mono<Boolean> rename = taskDto.getName() == null ? Mono.empty()
+                    : reactiveTaskRepository.updateFields(id, taskDto.getName(), taskDto.getDescription(), status, taskDto.getVersion(), true)
+                            .filter(updated -> updated > 0)
+                            .map(updated -> true);
+            return rename.switchIfEmpty(Mono.defer(() -> reactiveTaskRepository
+                    .updateFields(id, taskDto.getName(), taskDto.getDescription(), status, taskDto.getVersion(), false)
+                    .flatMap(updated -> updated > 0 ? Mono.just(updated) : rejectUpdate(id, taskDto, status))
+                    .map(updated -> false)));
+        }).doOnNext(renamed -> {
+            if (renamed) {
+                // The previous name is not read, so it is assumed to have been freed.
+                taskNameFilter.addAll(List.of(taskDto.getName()));
+                taskNameFilter.markStale();
+            }
+            taskCache.evict(id);
+            taskSearchIndex.update(id, taskDto.getName(), taskDto.getDescription());
+            taskChangeVersion.bump();
+            logger.info("Task with ID: {} updated successfully.", id);
+        }).then();
+    }
+
+
+    /**
+     * Deletes a task by its ID with a single DELETE statement.
+     *
+     * @param id the ID of the task to delete.
+     * @return a Mono completing once the task is deleted, or a TaskNotFoundException error.
+     */
+    public Mono<Void> deleteTask(Long id) {
+        return Mono.defer(() -> {
+            // The DELETE commits on its own, so the admission stamp is taken before it runs.
+            long admissionStamp = taskAdmissionCounter.generation();
+            return reactiveTaskRepository.deleteById(id)
+                    .flatMap(deleted -> {
+                        if (deleted == 0) {
+                            logger.error("Task with ID '{}' not found.", id);
+                            return Mono.<Long>error(new TaskNotFoundException("Task not found"));
+                        }
+                        return Mono.just(deleted);
+                    })
+                    .doOnNext(deleted -> {
+                        taskAdmissionCounter.release(1, admissionStamp);
+                        taskCache.evict(id);
+                        taskNameFilter.markStale();
+                        taskSearchIndex.removeAll(List.of(id));
+                        taskChangeVersion.bump();
+                    });
+        }).then();
+    }
+
+    /**
+     * Loads the admission counter on a worker thread if it is not loaded yet, since loading runs a
+     * blocking COUNT query.
+     */
+    private Mono<Void> admissionCounterReady() {
+        if (taskAdmissionCounter.isInitialized()) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(taskAdmissionCounter::initialize).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+
+    private Mono<Task> insertWithEvent(Task task) {
+        return transactionalOperator.transactional(reactiveTaskRepository.insert(task)
+                .flatMap(saved -> {
+                    String key = String.valueOf(saved.getId());
+                    String payload = taskEventOutbox.toPayload(TaskEventOutbox.TASK_CREATED_TOPIC, key, saved);
+                    return reactiveTaskRepository.insertOutboxEvent(TaskEventOutbox.TASK_CREATED_TOPIC, key, payload)
+                            .thenReturn(saved);
+                }));
+    }
+
+    private Mono<Long> rejectUpdate(Long id, TaskDto taskDto, TaskStatus status) {
+        return reactiveTaskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.error("Task with ID '{}' not found.", id);
+                    return new TaskNotFoundException("Task not found");
+                }))
+                .flatMap(task -> {
+                    boolean versionMatches = taskDto.getVersion() == null || taskDto.getVersion().equals(task.getVersion());
+                    if (versionMatches && status != null && !status.getAllowedPredecessors().contains(task.getStatus())) {
+                        logger.error("Task with ID '{}' cannot move to status '{}'.", id, taskDto.getStatus());
+                        return Mono.<Long>error(new InvalidTaskStatusException("Task cannot move to status " + status.getValue() + " from its current status."));
+                    }
+                    logger.error("Task with ID '{}' is at version {}, update expected {}.", id, task.getVersion(), taskDto.getVersion());
+                    return Mono.<Long>error(new TaskVersionConflictException("Task was modified concurrently; current version is " + task.getVersion() + "."));
+                });
+    }
+
+    private Task newTask(TaskDto taskDto) {
+        Task task = new Task();
+        task.setName(taskDto.getName());
+        task.setDescription(taskDto.getDescription());
+        task.setStatus(TaskStatus.PENDING.getValue());
+        task.setCreated_date(LocalDateTime.now());
+        return task;
+    }
+
+    private void validateTaskFields(TaskDto taskDto) {
+        if (taskDto.getName() == null || taskDto.getName().isEmpty()) {
+            logger.error("Task name is invalid.");
+            throw new InvalidTaskStatusException("Task name cannot be null or empty.");
+        }
+
+        if (taskDto.getDescription() == null || taskDto.getDescription().isEmpty()) {
+            logger.error("Task description is invalid.");
+            throw new InvalidTaskStatusException("Task description cannot be null or empty.");
+        }
+
+        if (taskDto.getStatus() == null || taskDto.getStatus().isEmpty()) {
+            logger.error("Task status is invalid.");
+            throw new InvalidTaskStatusException("Task status cannot be null or empty.");
+        }
+    }
+
+    private TaskStatus parseStatus(String status) {
+        if (status.isEmpty()) {
+            logger.error("Invalid task status.");
+            throw new InvalidTaskStatusException("Task status cannot be null or empty.");
+        }
+        TaskStatus parsed = TaskStatus.fromValueOrNull(status);
+        if (parsed == null) {
+            logger.error("Unknown task status '{}'.", status);
+            throw new InvalidTaskStatusException("Unknown task status: " + status);
+        }
+        return parsed;
+    }
+}
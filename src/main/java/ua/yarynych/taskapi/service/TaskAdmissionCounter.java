@@ -0,0 +1,268 @@
+package ua.yarynych.taskapi.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process counter enforcing the maximum number of tasks without a COUNT query per create.
+ * <p>
+ * Creates reserve slots with a compare-and-set against the limit. A reservation stays in flight
+ * until its transaction completes and is returned if the transaction rolls back. Deletes free
+ * slots once they commit. The counter is loaded from the database on first use and reconciled
+ * with it periodically, so drift caused by writes outside this service is corrected.
+ * <p>
+ * Reconciliation sets the counter to the stored rows plus the reservations in flight, plus the
+ * reservations that committed while the COUNT query ran, which the query may or may not have
+ * seen. A delete frees its slots only if no reconciliation started since the delete was issued,
+ * since that reconciliation may already have counted it. Each race therefore resolves to an
+ * overestimate, which the next reconciliation corrects, and the counter never admits more tasks
+ * than the limit. The COUNT query runs without holding the lock that completions take, so a
+ * committing transaction never waits for it while holding its connection.
+ */
+@Component
+public class TaskAdmissionCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAdmissionCounter.class);
+
+    private final TaskRepository taskRepository;
+    private final long limit;
+
+    // Guards completions, releases and the final step of a reconciliation; never held across I/O.
+    private final Lock stateLock = new ReentrantLock();
+    // Serializes reconciliations, including the COUNT query.
+    private final Lock reconcileLock = new ReentrantLock();
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+    // Incremented when a reconciliation starts and when it ends, so it is odd while one runs.
+    private final AtomicLong generation = new AtomicLong();
+    // Total of reservations settled as committed, guarded by stateLock.
+    private long committed;
+    private volatile boolean initialized;
+
+    @Autowired
+    public TaskAdmissionCounter(TaskRepository taskRepository,
+                                @Value("${task-api.tasks.limit:100}") long limit) {
+        this.taskRepository = taskRepository;
+        this.limit = limit;
+    }
+
+    /**
+     * Reserves room for new tasks created in the current transaction. The reservation is settled
+     * when the transaction completes; without a transaction it is settled as committed at once.
+     *
+     * @param tasks the number of tasks about to be created.
+     * @return true if the reservation fits under the limit, false if the limit would be exceeded.
+     */
+    public boolean tryReserve(int tasks) {
+        if (!tryReserveInFlight(tasks)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    complete(tasks, status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            complete(tasks, true);
+        }
+        return true;
+    }
+
+    /**
+     * Reserves room for new tasks whose insert is not bound to the current thread's transaction.
+     * The caller must settle every successful reservation with {@link #complete}.
+     *
+     * @param tasks the number of tasks about to be created.
+     * @return true if the reservation fits under the limit, false if the limit would be exceeded.
+     */
+    public boolean tryReserveInFlight(int tasks) {
+        initialize();
+
+        long current = count.get();
+        if (current + tasks > limit) {
+            logger.error("Task limit reached. Current count: {}, requested: {}", current, tasks);
+            return false;
+        }
+        // In flight before it is counted, so a reconciliation in between keeps it.
+        inFlight.addAndGet(tasks);
+        while (!count.compareAndSet(current, current + tasks)) {
+            current = count.get();
+            if (current + tasks > limit) {
+                // A reconciliation may have counted it meanwhile; the next one corrects that overestimate.
+                inFlight.addAndGet(-tasks);
+                logger.error("Task limit reached. Current count: {}, requested: {}", current, tasks);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Settles a reservation made with {@link #tryReserveInFlight}.
+     *
+     * @param tasks the number of reserved tasks.
+     * @param committed whether the tasks were stored; if not, their slots are returned.
+     */
+    public void complete(int tasks, boolean committed) {
+        stateLock.lock();
+        try {
+            inFlight.addAndGet(-tasks);
+            if (committed) {
+                this.committed += tasks;
+            } else {
+                count.addAndGet(-tasks);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * @return the stamp to pass to {@link #release(long, long)}, read before the delete commits.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Frees the slots of tasks deleted in the current transaction once it commits. Must be called
+     * before the commit; deletes that commit on their own use {@link #release(long, long)}.
+     *
+     * @param tasks the number of deleted tasks.
+     */
+    public void release(long tasks) {
+        if (tasks <= 0) {
+            return;
+        }
+        long stamp = generation.get();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(tasks, stamp);
+                }
+            });
+        } else {
+            release(tasks, stamp);
+        }
+    }
+
+    /**
+     * Frees the slots of deleted tasks, unless a reconciliation started after the stamp was read
+     * and may already have seen the delete.
+     *
+     * @param tasks the number of deleted tasks.
+     * @param stamp the {@link #generation()} read before the delete was issued.
+     */
+    public void release(long tasks, long stamp) {
+        if (tasks <= 0) {
+            return;
+        }
+        stateLock.lock();
+        try {
+            if (initialized && stamp % 2 == 0 && generation.get() == stamp) {
+                count.addAndGet(-tasks);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the counter with the number of tasks in the database plus reservations in flight.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${task-api.tasks.admission-reconcile-interval-ms:60000}",
+            initialDelayString = "${task-api.tasks.admission-reconcile-interval-ms:60000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            long committedBefore;
+            stateLock.lock();
+            try {
+                generation.incrementAndGet();
+                committedBefore = committed;
+            } finally {
+                stateLock.unlock();
+            }
+            try {
+                long stored = taskRepository.count();
+                stateLock.lock();
+                try {
+                    // Reservations committed during the count left inFlight whether or not the count saw
+                    // them, so they are added back; reservations made meanwhile are in inFlight, and the
+                    // CAS retries if one was counted in between.
+                    long settled = committed - committedBefore;
+                    long previous;
+                    long reconciled;
+                    do {
+                        previous = count.get();
+                        reconciled = stored + settled + inFlight.get();
+                    } while (!count.compareAndSet(previous, reconciled));
+                    if (initialized && previous != reconciled) {
+                        logger.info("Task admission counter reconciled from {} to {}.", previous, reconciled);
+                    }
+                    initialized = true;
+                } finally {
+                    stateLock.unlock();
+                }
+            } finally {
+                generation.incrementAndGet();
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * Loads the counter from the database unless it already has been. Blocks on the first call.
+     */
+    public void initialize() {
+        if (!initialized) {
+            reconcileLock.lock();
+            try {
+                if (!initialized) {
+                    reconcile();
+                }
+            } finally {
+                reconcileLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return whether the counter has been loaded from the database.
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * @return the number of tasks currently counted against the limit.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return the configured maximum number of tasks.
+     */
+    public long getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,216 @@
+package ua.yarynych.taskapi.service;
+
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.yarynych.taskapi.entity.dto.TaskFilter;
+import ua.yarynych.taskapi.entity.dto.TaskStatusChangedEvent;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.repository.TaskRepository;
+import ua.yarynych.taskapi.service.kafka.TaskEventOutbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Service for operations on many tasks at once: bulk deletes and bulk status transitions.
+ * <p>
+ * Work is split into chunks of {@code task-api.tasks.bulk.chunk-size} rows, and each chunk runs as
+ * one set-based statement in its own transaction. Locks are held only for a chunk and transaction
+ * size stays bounded no matter how many tasks match. A failure stops the operation, but chunks
+ * that were already committed stay committed. ID lists in a filter are split into chunks as well,
+ * so no statement binds more than a chunk of IDs. Operations are timed as {@code task.bulk}.
+ */
+@Service
+@Timed(value = "task.bulk", histogram = true)
+public class TaskBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBulkService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskAdmissionCounter taskAdmissionCounter;
+    private final TaskNameFilter taskNameFilter;
+    private final TaskCache taskCache;
+    private final TaskChangeVersion taskChangeVersion;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskEventOutbox taskEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    @Autowired
+    public TaskBulkService(TaskRepository taskRepository,
+                           TaskAdmissionCounter taskAdmissionCounter,
+                           TaskNameFilter taskNameFilter,
+                           TaskCache taskCache,
+                           TaskChangeVersion taskChangeVersion,
+                           TaskSearchIndex taskSearchIndex,
+                           TaskEventOutbox taskEventOutbox,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${task-api.tasks.bulk.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskAdmissionCounter = taskAdmissionCounter;
+        this.taskNameFilter = taskNameFilter;
+        this.taskCache = taskCache;
+        this.taskChangeVersion = taskChangeVersion;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskEventOutbox = taskEventOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Deletes the tasks with the given IDs. IDs that do not exist are skipped.
+     *
+     * @param ids the IDs of the tasks to delete.
+     * @return the number of deleted tasks.
+     */
+    public long deleteByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            logger.error("Bulk delete without IDs.");
+            throw new InvalidTaskStatusException("Task ID list cannot be empty.");
+        }
+
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        long deleted = 0;
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            deleted += deleteChunk(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+        }
+
+        logger.info("Bulk delete removed {} of {} requested tasks.", deleted, distinct.size());
+        return deleted;
+    }
+
+    /**
+     * Deletes every task matching the filter, walking the matches in ID order.
+     *
+     * @param filter the criteria selecting the tasks; at least one criterion must be set.
+     * @return the number of deleted tasks.
+     */
+    public long deleteMatching(TaskFilter filter) {
+        if (filter.isEmpty()) {
+            logger.error("Bulk delete without a filter.");
+            throw new InvalidTaskStatusException("At least one filter is required for a bulk delete.");
+        }
+
+        long deleted = 0;
+        for (TaskFilter slice : slices(filter)) {
+            long afterId = 0;
+            List<Long> chunk;
+            do {
+                chunk = taskRepository.findIdsMatching(slice, afterId, chunkSize);
+                if (!chunk.isEmpty()) {
+                    deleted += deleteChunk(chunk);
+                    afterId = chunk.get(chunk.size() - 1);
+                }
+            } while (chunk.size() == chunkSize);
+        }
+
+        logger.info("Bulk delete removed {} tasks matching status={}, createdBefore={}.",
+                deleted, filter.getStatus(), filter.getCreatedBefore());
+        return deleted;
+    }
+
+    /**
+     * Moves every task matching the filter from the filter's status to a new one, walking the
+     * matches in ID order. Each chunk records one aggregated "task_status_changed" event in the
+     * outbox within its own transaction, so events exist exactly for the chunks that committed.
+     *
+     * @param filter the criteria selecting the tasks; its status is the status moved from and is required.
+     * @param to the new status.
+     * @return the number of tasks whose status changed.
+     */
+    public long changeStatus(TaskFilter filter, TaskStatus to) {
+        TaskStatus from = filter.getStatus();
+        if (from == null || to == null) {
+            logger.error("Bulk status change without source or target status.");
+            throw new InvalidTaskStatusException("Both the current and the new status are required.");
+        }
+        if (!to.getAllowedPredecessors().contains(from)) {
+            logger.error("Bulk status change from {} to {} is not allowed.", from, to);
+            throw new InvalidTaskStatusException("Tasks cannot move from " + from.getValue() + " to " + to.getValue() + ".");
+        }
+        if (from == to) {
+            return 0;
+        }
+
+        String operationId = UUID.randomUUID().toString();
+        long changed = 0;
+        for (TaskFilter slice : slices(filter)) {
+            long afterId = 0;
+            StatusChunk chunk;
+            do {
+                long cursor = afterId;
+                chunk = transactionTemplate.execute(status -> changeStatusChunk(operationId, slice, cursor, to));
+                changed += chunk.changed();
+                afterId = chunk.lastId();
+            } while (chunk.selected() == chunkSize);
+        }
+
+        logger.info("Bulk status change {} moved {} tasks from {} to {}.", operationId, changed, from, to);
+        return changed;
+    }
+
+    /**
+     * Splits a filter with an ID list into filters of at most one chunk of IDs each, in ID order,
+     * so no query binds more than a chunk's worth of IDs. Filters without IDs are returned as is.
+     */
+    private List<TaskFilter> slices(TaskFilter filter) {
+        if (filter.getIds() == null) {
+            return List.of(filter);
+        }
+        List<Long> ids = filter.getIds().stream().filter(Objects::nonNull).distinct().sorted().toList();
+        List<TaskFilter> slices = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            slices.add(new TaskFilter(filter.getStatus(), filter.getCreatedAfter(), filter.getCreatedBefore(),
+                    ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        return slices;
+    }
+
+    private StatusChunk changeStatusChunk(String operationId, TaskFilter filter, long afterId, TaskStatus to) {
+        List<Long> ids = taskRepository.findIdsMatching(filter, afterId, chunkSize);
+        if (ids.isEmpty()) {
+            return new StatusChunk(0, 0, afterId);
+        }
+
+        Long firstId = ids.get(0);
+        Long lastId = ids.get(ids.size() - 1);
+        int changed = taskRepository.updateStatusByIds(ids, filter.getStatus(), to);
+        if (changed > 0) {
+            taskEventOutbox.taskStatusesChanged(new TaskStatusChangedEvent(operationId, filter.getStatus(), to,
+                    changed, firstId, lastId, LocalDateTime.now()));
+            ids.forEach(taskCache::evict);
+            taskChangeVersion.bump();
+        }
+        return new StatusChunk(ids.size(), changed, lastId);
+    }
+
+    private int deleteChunk(List<Long> ids) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            int count = taskRepository.deleteTasksByIds(ids);
+            taskAdmissionCounter.release(count);
+            ids.forEach(taskCache::evict);
+            if (count > 0) {
+                taskSearchIndex.removeAll(ids);
+                taskChangeVersion.bump();
+            }
+            return count;
+        });
+        int count = deleted != null ? deleted : 0;
+        taskNameFilter.markStale(count);
+        return count;
+    }
+
+    private record StatusChunk(int selected, int changed, long lastId) {
+    }
+}
@@ -0,0 +1,127 @@
+package ua.yarynych.taskapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded read-through cache of tasks by ID.
+ * <p>
+ * Entries are snapshots rather than the JPA entities themselves, and every read returns a fresh
+ * copy, so callers can never modify a cached task or keep it attached to a persistence context.
+ * Entries are evicted by size and by age; mutations in this service evict the task immediately
+ * and again after commit, so a concurrent read cannot re-cache the pre-commit state.
+ * Callers that load tasks themselves, such as the reactive service, cache them with
+ * {@link #putIfNotEvicted}, which drops the snapshot if any task was evicted since the load began.
+ * Hit, miss and eviction counts are exposed as {@code cache.*} metrics tagged {@code cache=tasks}.
+ */
+@Component
+public class TaskCache implements MeterBinder {
+
+    private final TaskRepository taskRepository;
+    private final Cache<Long, Task> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public TaskCache(TaskRepository taskRepository,
+                     @Value("${task-api.tasks.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${task-api.tasks.cache.expire-after-write-ms:300000}") long expireAfterWriteMs) {
+        this.taskRepository = taskRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the task with the given ID, loading it from the database on a miss.
+     * Missing tasks are not cached.
+     *
+     * @param id the ID of the task.
+     * @return a copy of the task, or empty if it does not exist.
+     */
+    public Optional<Task> get(Long id) {
+        Task cached = cache.get(id, key -> taskRepository.findById(key).map(TaskCache::copy).orElse(null));
+        return Optional.ofNullable(cached).map(TaskCache::copy);
+    }
+
+    /**
+     * Returns the cached task without loading it on a miss.
+     *
+     * @param id the ID of the task.
+     * @return a copy of the cached task, or empty if it is not cached.
+     */
+    public Optional<Task> getIfPresent(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id)).map(TaskCache::copy);
+    }
+
+    /**
+     * @return the stamp to pass to {@link #putIfNotEvicted}, read before the task is loaded.
+     */
+    public long evictionStamp() {
+        return evictions.get();
+    }
+
+    /**
+     * Caches a task loaded outside this cache, unless a task was evicted after the stamp was read,
+     * since the loaded state may then be older than the change that caused the eviction.
+     *
+     * @param task the loaded task.
+     * @param stamp the {@link #evictionStamp()} read before the load began.
+     */
+    public void putIfNotEvicted(Task task, long stamp) {
+        Task snapshot = copy(task);
+        cache.asMap().compute(task.getId(), (id, cached) -> evictions.get() == stamp ? snapshot : cached);
+    }
+
+    /**
+     * Removes a task from the cache, and again once the current transaction commits if there is one.
+     *
+     * @param id the ID of the task that changed.
+     */
+    public void evict(Long id) {
+        evictions.incrementAndGet();
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.incrementAndGet();
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "tasks");
+    }
+
+    private static Task copy(Task task) {
+        Task copy = new Task();
+        copy.setId(task.getId());
+        copy.setName(task.getName());
+        copy.setDescription(task.getDescription());
+        if (task.getStatus() != null) {
+            copy.setStatus(task.getStatusAsString());
+        }
+        copy.setCreated_date(task.getCreated_date());
+        copy.setVersion(task.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,58 @@
+package ua.yarynych.taskapi.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of the "tasks" table, bumped by every task mutation made
+ * through the services, and exposed to clients as an ETag for the task listings.
+ * <p>
+ * Inside a transaction the version only moves once it commits, so a reader that sees the new version
+ * also sees the new rows. The ETag includes the start time of this instance, so tags from before a
+ * restart never match. Like the other in-memory task state, the counter is local to this instance.
+ */
+@Component
+public class TaskChangeVersion {
+
+    private final String generation = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Marks the tasks as changed, once the current transaction commits if there is one.
+     */
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return the current version.
+     */
+    public long get() {
+        return version.get();
+    }
+
+    /**
+     * Returns the ETag of the task listings at the current version. Read it before querying, so a
+     * change made while the query runs can only make the tag older than the data, never newer.
+     * The tag is weak: it identifies the content, which stays the same whether or not the response
+     * is gzip-compressed, and the server does not compress responses carrying a strong tag.
+     *
+     * @param listing the name of the listing, since each listing has its own representation.
+     * @return the quoted ETag value.
+     */
+    public String eTag(String listing) {
+        return "W/\"" + listing + "-" + generation + "-" + version.get() + "\"";
+    }
+}
@@ -0,0 +1,165 @@
+package ua.yarynych.taskapi.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter over task names, used to skip the database lookup when a name is
+ * definitely not taken. A possible hit still has to be confirmed against the database.
+ * <p>
+ * The filter is built from the database at startup; until then every name is reported as a
+ * possible hit. New names are added as tasks are created or renamed. Names freed by deletes and
+ * renames cannot be removed from a Bloom filter, so they are counted as stale and the filter is
+ * rebuilt in the background once there are too many of them or it has outgrown its sizing.
+ * A rebuild sizes the new filter for at least twice the current number of tasks, so a table that
+ * has grown past {@code expected-insertions} does not leave it saturated again.
+ */
+@Component
+public class TaskNameFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskNameFilter.class);
+
+    private final TaskRepository taskRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long staleThreshold;
+
+    private final AtomicLong staleNames = new AtomicLong();
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter rebuilding;
+
+    @Autowired
+    public TaskNameFilter(TaskRepository taskRepository,
+                          @Value("${task-api.tasks.name-filter.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${task-api.tasks.name-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                          @Value("${task-api.tasks.name-filter.stale-threshold:1000}") long staleThreshold) {
+        this.taskRepository = taskRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.staleThreshold = staleThreshold;
+    }
+
+    /**
+     * @return false if no task can have this name, true if the database has to be checked.
+     */
+    public boolean mightContain(String name) {
+        BloomFilter filter = current;
+        return filter == null || name == null || filter.mightContain(name);
+    }
+
+    /**
+     * Records names of tasks being created or renamed in the current transaction. They are added
+     * right away, so concurrent creates of the same name fall through to the database, and again
+     * after commit, so a rebuild that started in between cannot miss them.
+     */
+    public void addAll(Collection<String> names) {
+        names.forEach(this::put);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> committed = List.copyOf(names);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed.forEach(TaskNameFilter.this::put);
+                }
+            });
+        }
+    }
+
+    /**
+     * Records that a name was freed by a delete or rename and now only produces false positives.
+     */
+    public void markStale() {
+        markStale(1);
+    }
+
+    /**
+     * Records that several names were freed at once, e.g. by a bulk delete.
+     */
+    public void markStale(long names) {
+        staleNames.addAndGet(names);
+    }
+
+    /**
+     * Rebuilds the filter from the names currently in the database.
+     * Names added while the rebuild runs go into both the old and the new filter. If the database
+     * cannot be read, the previous filter stays in use. A call made while another rebuild is
+     * running returns at once, since that rebuild already picks up the current names.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            logger.debug("Task name filter rebuild already running.");
+            return;
+        }
+        try {
+            long stale = staleNames.get();
+            BloomFilter fresh = new BloomFilter(Math.max(expectedInsertions, 2 * taskRepository.count()), falsePositiveRate);
+
+            rebuilding = fresh;
+            try (Stream<String> names = taskRepository.streamAllNames()) {
+                names.forEach(fresh::put);
+                current = fresh;
+                staleNames.addAndGet(-stale);
+                logger.info("Task name filter rebuilt with {} names.", fresh.getInsertions());
+            } finally {
+                rebuilding = null;
+            }
+        } catch (DataAccessException e) {
+            // The previous filter (or none, which defers every check to the database) stays in use.
+            logger.warn("Failed to rebuild the task name filter.", e);
+        } finally {
+            rebuildRunning.set(false);
+        }
+    }
+
+    /**
+     * Rebuilds the filter if enough stale names have accumulated or it holds more names than it
+     * was sized for.
+     */
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${task-api.tasks.name-filter.check-interval-ms:60000}")
+    public void rebuildIfStale() {
+        BloomFilter filter = current;
+        if (filter == null || staleNames.get() >= staleThreshold || filter.isSaturated()) {
+            rebuild();
+        }
+    }
+
+    long getStaleNames() {
+        return staleNames.get();
+    }
+
+    // The rebuilding filter is written before the current one: if the rebuild swaps filters in
+    // between, the value is already in the new filter, and if no rebuild was running yet, its
+    // database scan starts after this call.
+    private void put(String name) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(name);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(name);
+        }
+    }
+}
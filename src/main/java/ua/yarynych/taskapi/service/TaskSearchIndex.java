@@ -0,0 +1,404 @@
+package ua.yarynych.taskapi.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.RankedTaskId;
+import ua.yarynych.taskapi.entity.errors.TaskSearchUnavailableException;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over task names and descriptions for full-text search.
+ * <p>
+ * Text is split into lower-cased words of letters and digits; every word of a query must occur in
+ * a task for it to match. Matches are ranked by the sum, over the query words, of the word's
+ * rarity (BM25 inverse document frequency) times its saturated frequency in the task, with name
+ * occurrences counting double. Queries intersect the posting lists starting from the shortest
+ * and keep only the requested window in a bounded heap, so their cost follows the rarest word
+ * rather than the size of the table.
+ * <p>
+ * The index is built from the database at startup, and the build is retried on a schedule until
+ * it succeeds; until then searches fail with {@link TaskSearchUnavailableException}. Changes made through the services are applied once
+ * their transaction commits. Changes arriving while a rebuild scans the table are applied to the
+ * old index and replayed on the new one before it replaces the old one. Searches share a read
+ * lock; changes hold the write lock only while they update the affected tasks, and the rebuild
+ * scan runs without it.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 64;
+    static final int MAX_TERMS_PER_FIELD = 256;
+    static final int MAX_QUERY_TERMS = 16;
+    static final float NAME_BOOST = 2f;
+    private static final float SATURATION = 1.2f;
+
+    private static final Comparator<RankedTaskId> BEST_FIRST = Comparator
+            .comparingDouble(RankedTaskId::getScore).reversed()
+            .thenComparingLong(RankedTaskId::getId);
+
+    /**
+     * One page of matches and the total number of matching tasks.
+     */
+    public record Matches(List<RankedTaskId> ranked, long total) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+
+    private Index current;
+    private List<Consumer<Index>> pending;
+
+    @Autowired
+    public TaskSearchIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Indexes new tasks once the current transaction commits.
+     */
+    public void addAll(Collection<Task> tasks) {
+        List<Document> documents = tasks.stream()
+                .map(task -> new Document(task.getId(), task.getName(), task.getDescription()))
+                .toList();
+        afterCommit(index -> documents.forEach(index::put));
+    }
+
+    /**
+     * Re-indexes the changed fields of a task once the current transaction commits.
+     *
+     * @param id the ID of the task.
+     * @param name the new name, or null if it did not change.
+     * @param description the new description, or null if it did not change.
+     */
+    public void update(Long id, String name, String description) {
+        if (name != null || description != null) {
+            afterCommit(index -> index.patch(id, name, description));
+        }
+    }
+
+    /**
+     * Removes deleted tasks from the index once the current transaction commits.
+     */
+    public void removeAll(Collection<Long> ids) {
+        List<Long> removed = List.copyOf(ids);
+        afterCommit(index -> removed.forEach(index::remove));
+    }
+
+    /**
+     * Finds the tasks containing every word of the query.
+     *
+     * @param query the words to search for.
+     * @param offset the number of best matches to skip.
+     * @param limit the maximum number of matches to return.
+     * @return the requested window of matches, best first, and the total number of matches.
+     */
+    public Matches search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query, MAX_QUERY_TERMS)));
+        lock.readLock().lock();
+        try {
+            if (current == null) {
+                throw new TaskSearchUnavailableException("The search index is still being built.");
+            }
+            return current.search(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the tasks currently in the database. If the database cannot be
+     * read, the previous index stays in use. A call made while another rebuild is running returns
+     * at once.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            rebuild(taskRepository::streamAllSearchableText);
+        } catch (DataAccessException e) {
+            // The previous index (or none, which makes searches fail fast) stays in use.
+            logger.warn("Failed to rebuild the task search index.", e);
+        }
+    }
+
+    /**
+     * Retries the initial build until it succeeds, e.g. when the database was unreachable at startup.
+     */
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${task-api.search.retry-interval-ms:30000}",
+            initialDelayString = "${task-api.search.retry-interval-ms:30000}")
+    public void rebuildIfNotReady() {
+        if (!isReady()) {
+            rebuild();
+        }
+    }
+
+    void rebuild(Stream<? extends TaskRepository.SearchableText> tasks) {
+        rebuild(() -> tasks);
+    }
+
+    private void rebuild(Supplier<? extends Stream<? extends TaskRepository.SearchableText>> source) {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            logger.debug("Task search index rebuild already running.");
+            return;
+        }
+        try {
+            // Recording starts before the query runs, so a change committed after the query's
+            // snapshot but before the scan reaches it is replayed rather than lost.
+            setPending(new ArrayList<>());
+            Index fresh = new Index();
+            try (Stream<? extends TaskRepository.SearchableText> tasks = source.get()) {
+                tasks.forEach(task -> fresh.put(new Document(task.getId(), task.getName(), task.getDescription())));
+            } catch (RuntimeException e) {
+                setPending(null);
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                // Replaying is idempotent, so changes the scan already saw do no harm.
+                pending.forEach(change -> change.accept(fresh));
+                pending = null;
+                current = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Task search index rebuilt with {} tasks and {} terms.", fresh.documents.size(), fresh.postings.size());
+        } finally {
+            rebuildRunning.set(false);
+        }
+    }
+
+    private void setPending(List<Consumer<Index>> changes) {
+        lock.writeLock().lock();
+        try {
+            pending = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return whether the index has been built and can answer searches.
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return current != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lower-cased words of letters and digits, dropping words that are too short
+     * or too long to be useful search terms.
+     *
+     * @param text the text, may be null.
+     * @param maxTerms the maximum number of words to return.
+     * @return the words in order of appearance, with repetitions.
+     */
+    static List<String> tokenize(String text, int maxTerms) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length() && terms.size() < maxTerms; i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int length = i - start;
+                if (length >= MIN_TERM_LENGTH && length <= MAX_TERM_LENGTH) {
+                    terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private void afterCommit(Consumer<Index> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Document(Long id, String name, String description) {
+    }
+
+    /**
+     * The indexed words of one task, per field, as the instances shared with the posting lists.
+     */
+    private record Terms(String[] name, String[] description) {
+    }
+
+    private static final class Index {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<Long, Terms> documents = new HashMap<>();
+
+        void put(Document document) {
+            if (document.id() == null) {
+                return;
+            }
+            remove(document.id());
+            index(document.id(), tokenize(document.name(), MAX_TERMS_PER_FIELD), tokenize(document.description(), MAX_TERMS_PER_FIELD));
+        }
+
+        void patch(Long id, String name, String description) {
+            Terms previous = documents.get(id);
+            if (previous == null) {
+                // Unknown task, e.g. created by another instance: only a patch of both fields carries its whole text.
+                if (name != null && description != null) {
+                    put(new Document(id, name, description));
+                }
+                return;
+            }
+            remove(id);
+            index(id,
+                    name != null ? tokenize(name, MAX_TERMS_PER_FIELD) : Arrays.asList(previous.name()),
+                    description != null ? tokenize(description, MAX_TERMS_PER_FIELD) : Arrays.asList(previous.description()));
+        }
+
+        void remove(Long id) {
+            Terms terms = documents.remove(id);
+            if (terms != null) {
+                unlink(id, terms.name());
+                unlink(id, terms.description());
+            }
+        }
+
+        Matches search(List<String> terms, int offset, int limit) {
+            if (terms.isEmpty()) {
+                return new Matches(List.of(), 0);
+            }
+            PostingList[] lists = new PostingList[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return new Matches(List.of(), 0);
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                double frequency = lists[i].size();
+                idf[i] = Math.log(1 + (documents.size() - frequency + 0.5) / (frequency + 0.5));
+            }
+
+            int window = offset + limit;
+            PriorityQueue<RankedTaskId> top = new PriorityQueue<>(window + 1, BEST_FIRST.reversed());
+            long total = 0;
+            PostingList rarest = lists[0];
+            for (int slot = 0; slot < rarest.capacity(); slot++) {
+                long id = rarest.idAt(slot);
+                if (id == 0) {
+                    continue;
+                }
+                double score = idf[0] * rarest.weightAt(slot);
+                boolean matches = true;
+                for (int i = 1; i < lists.length && matches; i++) {
+                    float weight = lists[i].get(id);
+                    matches = weight > 0;
+                    score += idf[i] * weight;
+                }
+                if (!matches) {
+                    continue;
+                }
+                total++;
+                RankedTaskId candidate = new RankedTaskId(id, score);
+                if (top.size() < window) {
+                    top.add(candidate);
+                } else if (BEST_FIRST.compare(candidate, top.peek()) < 0) {
+                    top.poll();
+                    top.add(candidate);
+                }
+            }
+
+            List<RankedTaskId> ranked = new ArrayList<>(top);
+            ranked.sort(BEST_FIRST);
+            return new Matches(List.copyOf(ranked.subList(Math.min(offset, ranked.size()), ranked.size())), total);
+        }
+
+        private void index(Long id, List<String> nameTerms, List<String> descriptionTerms) {
+            Map<String, Float> frequencies = new HashMap<>();
+            nameTerms.forEach(term -> frequencies.merge(term, NAME_BOOST, Float::sum));
+            descriptionTerms.forEach(term -> frequencies.merge(term, 1f, Float::sum));
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, PostingList::new).put(id, frequency / (frequency + SATURATION)));
+            documents.put(id, new Terms(shared(nameTerms), shared(descriptionTerms)));
+        }
+
+        private void unlink(Long id, String[] terms) {
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null && list.remove(id) && list.size() == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        private String[] shared(List<String> terms) {
+            String[] shared = new String[terms.size()];
+            for (int i = 0; i < shared.length; i++) {
+                shared[i] = postings.get(terms.get(i)).term();
+            }
+            return shared;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package ua.yarynych.taskapi.service;
+
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.yarynych.taskapi.config.db.CustomRoutingDataSource;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.RankedTaskId;
+import ua.yarynych.taskapi.entity.dto.TaskSearchHit;
+import ua.yarynych.taskapi.entity.dto.TaskSearchPage;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text search over task names and descriptions.
+ * <p>
+ * By default searches are answered by the in-process {@link TaskSearchIndex}. With
+ * {@code task-api.search.mode=postgresql} they run as PostgreSQL full-text queries whenever the
+ * data source routes to PostgreSQL, so every instance sees every write, and fall back to the
+ * in-process index while it routes to H2. Either way only the IDs of the requested window are
+ * ranked, and the tasks themselves are then loaded in one query. Searches are timed as
+ * {@code task.search}.
+ */
+@Service
+@Timed(value = "task.search", histogram = true)
+public class TaskSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchService.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_WINDOW = 1000;
+
+    static final String MODE_MEMORY = "memory";
+    static final String MODE_POSTGRESQL = "postgresql";
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskRepository taskRepository;
+    private final CustomRoutingDataSource dataSource;
+    private final String mode;
+
+    @Autowired
+    public TaskSearchService(TaskSearchIndex taskSearchIndex, TaskRepository taskRepository,
+                             CustomRoutingDataSource dataSource,
+                             @Value("${task-api.search.mode:" + MODE_MEMORY + "}") String mode) {
+        if (!MODE_MEMORY.equals(mode) && !MODE_POSTGRESQL.equals(mode)) {
+            throw new IllegalArgumentException("Unknown search mode: " + mode);
+        }
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskRepository = taskRepository;
+        this.dataSource = dataSource;
+        this.mode = mode;
+    }
+
+    /**
+     * Finds the tasks whose name or description contains every word of the query.
+     *
+     * @param query the words to search for.
+     * @param offset the number of best matches to skip.
+     * @param limit the requested page size, clamped to [1, MAX_PAGE_SIZE].
+     * @return the page of matching tasks, best match first, and the total number of matches.
+     */
+    @Transactional(readOnly = true)
+    public TaskSearchPage search(String query, int offset, int limit) {
+        if (query == null || query.isBlank()) {
+            logger.error("Search query is empty.");
+            throw new InvalidTaskStatusException("Search query cannot be empty.");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (offset < 0 || offset + size > MAX_WINDOW) {
+            logger.error("Search window {}+{} is out of range.", offset, size);
+            throw new InvalidTaskStatusException("Search results are available up to position " + MAX_WINDOW + ".");
+        }
+
+        List<RankedTaskId> ranked;
+        long total;
+        if (usesDatabase()) {
+            ranked = taskRepository.searchFullText(query, offset, size);
+            // A short, non-empty page (or an empty first one) is the last one, so it already tells the total.
+            boolean lastPage = ranked.size() < size && (offset == 0 || !ranked.isEmpty());
+            total = lastPage ? offset + ranked.size() : taskRepository.countFullText(query);
+        } else {
+            TaskSearchIndex.Matches matches = taskSearchIndex.search(query, offset, size);
+            ranked = matches.ranked();
+            total = matches.total();
+        }
+        return new TaskSearchPage(load(ranked), total);
+    }
+
+    private boolean usesDatabase() {
+        return MODE_POSTGRESQL.equals(mode) && CustomRoutingDataSource.FALLBACK_KEY.equals(dataSource.getCurrentLookupKey());
+    }
+
+    private List<TaskSearchHit> load(List<RankedTaskId> ranked) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasks = new HashMap<>();
+        taskRepository.findAllById(ranked.stream().map(RankedTaskId::getId).toList())
+                .forEach(task -> tasks.put(task.getId(), task));
+
+        // A task deleted since it was ranked is simply left out.
+        List<TaskSearchHit> hits = new ArrayList<>(ranked.size());
+        for (RankedTaskId match : ranked) {
+            Task task = tasks.get(match.getId());
+            if (task != null) {
+                hits.add(new TaskSearchHit(task, match.getScore()));
+            }
+        }
+        return hits;
+    }
+}
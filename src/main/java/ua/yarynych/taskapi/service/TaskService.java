@@ -1,59 +1,94 @@
 package ua.yarynych.taskapi.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ua.yarynych.taskapi.entity.Task;
 import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.dto.TaskPage;
 import ua.yarynych.taskapi.entity.enums.TaskStatus;
 import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
 import ua.yarynych.taskapi.entity.errors.TaskAlreadyExistsException;
 import ua.yarynych.taskapi.entity.errors.TaskLimitReachedException;
 import ua.yarynych.taskapi.entity.errors.TaskNotFoundException;
+import ua.yarynych.taskapi.entity.errors.TaskVersionConflictException;
 import ua.yarynych.taskapi.repository.TaskRepository;
+import ua.yarynych.taskapi.service.kafka.TaskEventOutbox;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing tasks. This class handles the business logic related to tasks,
- * including creating, updating, and deleting tasks, as well as interacting with Kafka.
+ * including creating, updating, and deleting tasks, as well as recording Kafka events in the outbox.
+ * Every public method is timed as {@code task.service}, tagged with the method and exception.
  */
 @Service
+@Timed(value = "task.service", histogram = true)
 public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final TaskRepository taskRepository;
-    private final KafkaTemplate<String, Task> kafkaTemplate;
+    private final TaskEventOutbox taskEventOutbox;
+    private final TaskNameFilter taskNameFilter;
+    private final TaskAdmissionCounter taskAdmissionCounter;
+    private final TaskCache taskCache;
+    private final TaskChangeVersion taskChangeVersion;
+    private final TaskSearchIndex taskSearchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public TaskService(TaskRepository taskRepository, KafkaTemplate<String, Task> kafkaTemplate) {
+    public TaskService(TaskRepository taskRepository, TaskEventOutbox taskEventOutbox,
+                       TaskNameFilter taskNameFilter, TaskAdmissionCounter taskAdmissionCounter,
+                       TaskCache taskCache, TaskChangeVersion taskChangeVersion,
+                       TaskSearchIndex taskSearchIndex) {
         this.taskRepository = taskRepository;
-        this.kafkaTemplate = kafkaTemplate;
+        this.taskEventOutbox = taskEventOutbox;
+        this.taskNameFilter = taskNameFilter;
+        this.taskAdmissionCounter = taskAdmissionCounter;
+        this.taskCache = taskCache;
+        this.taskChangeVersion = taskChangeVersion;
+        this.taskSearchIndex = taskSearchIndex;
     }
 
     /**
      * Creates a new task based on the provided TaskDto.
+     * The "task_created" event is written to the outbox in the same transaction and
+     * published to Kafka asynchronously.
      *
      * @param taskDto the DTO containing task details.
      * @return the ID of the created task.
      */
+    @Transactional
     public Long createTask(TaskDto taskDto) {
         validateCreateTask(taskDto);
 
         logger.info("Creating task with name: {}", taskDto.getName());
 
-        Task task = new Task();
-        task.setName(taskDto.getName());
-        task.setDescription(taskDto.getDescription());
-        task.setStatus(TaskStatus.PENDING.getValue());
-        task.setCreated_date(LocalDateTime.now());
+        Task task = newTask(taskDto);
 
         taskRepository.save(task);
-        kafkaTemplate.send("task_created", task);
+        taskNameFilter.addAll(List.of(task.getName()));
+        taskEventOutbox.taskCreated(task);
+        taskSearchIndex.addAll(List.of(task));
+        taskChangeVersion.bump();
 
         logger.info("Task created with ID: {}", task.getId());
         return task.getId();
@@ -61,19 +96,56 @@ public class TaskService {
 
 
     /**
-     * Deletes a task by its ID.
+     * Creates several tasks in one transaction. All tasks are validated up front; the inserts are
+     * then sent to the database as JDBC batches using pre-allocated sequence IDs.
+     *
+     * @param taskDtos the DTOs containing task details.
+     * @return the IDs of the created tasks, in request order.
+     */
+    @Transactional
+    public List<Long> createTasks(List<TaskDto> taskDtos) {
+        validateCreateTasks(taskDtos);
+
+        logger.info("Creating batch of {} tasks.", taskDtos.size());
+
+        List<Task> tasks = taskDtos.stream().map(this::newTask).toList();
+        taskRepository.saveAll(tasks);
+        taskNameFilter.addAll(tasks.stream().map(Task::getName).toList());
+        taskEventOutbox.tasksCreated(tasks);
+        taskSearchIndex.addAll(tasks);
+        taskChangeVersion.bump();
+
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        logger.info("Batch of {} tasks created.", ids.size());
+        return ids;
+    }
+
+
+    /**
+     * Deletes a task by its ID with a single DELETE statement.
      *
      * @param id the ID of the task to delete.
      */
     public void deleteTask(Long id) {
-        validateTaskExists(id);
         logger.info("Deleting task with ID: {}", id);
-        taskRepository.deleteById(id);
+        // The DELETE commits on its own, so the admission stamp is taken before it runs.
+        long admissionStamp = taskAdmissionCounter.generation();
+        if (taskRepository.deleteTaskById(id) == 0) {
+            logger.error("Task with ID '{}' not found.", id);
+            throw new TaskNotFoundException("Task not found");
+        }
+        taskAdmissionCounter.release(1, admissionStamp);
+        taskCache.evict(id);
+        taskNameFilter.markStale();
+        taskSearchIndex.removeAll(List.of(id));
+        taskChangeVersion.bump();
     }
 
 
     /**
-     * Updates the status of a task.
+     * Updates the status of a task with a single conditional UPDATE. The status is validated before
+     * the database is touched; the task is only read again if no row was updated, to tell a missing
+     * task from a transition its current status does not allow.
      *
      * @param id the ID of the task to update.
      * @param status the new status of the task.
@@ -81,83 +153,210 @@ public class TaskService {
     public void updateTaskStatus(Long id, String status) {
         logger.info("Updating status of task with ID: {} to {}", id, status);
 
-        Task task = taskRepository.findById(id).orElseThrow(() -> {
-            logger.error("Task with ID '{}' not found.", id);
-            return new TaskNotFoundException("Task not found");
-        });
-
         validateStatus(status);
+        TaskStatus newStatus = parseStatus(status);
 
-        task.setStatus(TaskStatus.fromValue(status).getValue());
-        taskRepository.save(task);
+        int updated = taskRepository.updateStatus(id, newStatus, newStatus.getAllowedPredecessors());
+        if (updated == 0) {
+            validateTaskExists(id);
+            logger.error("Task with ID '{}' cannot move to status '{}'.", id, status);
+            throw new InvalidTaskStatusException("Task cannot move to status " + newStatus.getValue() + " from its current status.");
+        }
+        taskCache.evict(id);
+        taskChangeVersion.bump();
 
         logger.info("Status of task with ID: {} updated to {}", id, status);
     }
 
 
     /**
-     * Updates the fields of a task.
+     * Updates the fields of a task. Only the fields present in the DTO are written, in a single UPDATE
+     * statement without loading the task. If the DTO carries a version, the update only applies when
+     * the task still has that version. The task is only read if nothing was updated, to report why.
+     * A new name is first written on the condition that it differs from the stored one, so the name
+     * filter is only marked stale when the task was actually renamed; if the name is unchanged a second
+     * UPDATE writes the remaining fields.
      *
      * @param id the ID of the task to update.
      * @param taskDto the DTO containing the new task details.
+     * @throws InvalidTaskStatusException if the DTO sets none of name, description and status.
      */
     public void updateTaskFields(Long id, TaskDto taskDto) {
-        validateTaskExists(id);
-        validateStatus(taskDto.getStatus());
+        if (taskDto.getName() == null && taskDto.getDescription() == null && taskDto.getStatus() == null) {
+            logger.error("No fields to update for task with ID '{}'.", id);
+            throw new InvalidTaskStatusException("At least one of name, description or status must be set.");
+        }
+        TaskStatus status = null;
+        if (taskDto.getStatus() != null) {
+            validateStatus(taskDto.getStatus());
+            status = parseStatus(taskDto.getStatus());
+        }
 
         logger.info("Updating fields of task with ID: {}", id);
 
-        Task task = taskRepository.findById(id).orElseThrow(() -> {
-            logger.error("Task with ID '{}' not found.", id);
-            return new TaskNotFoundException("Task not found");
-        });
-
+        int updated = 0;
         if (taskDto.getName() != null) {
-            task.setName(taskDto.getName());
-            logger.info("Task name updated to '{}'", taskDto.getName());
+            updated = taskRepository.updateFields(id, taskDto.getName(), taskDto.getDescription(), status, taskDto.getVersion(), true);
         }
-
-        if (taskDto.getDescription() != null) {
-            task.setDescription(taskDto.getDescription());
-            logger.info("Task description updated.");
+        boolean renamed = updated > 0;
+        if (!renamed) {
+            updated = taskRepository.updateFields(id, taskDto.getName(), taskDto.getDescription(), status, taskDto.getVersion(), false);
         }
-
-        if (taskDto.getStatus() != null) {
-            task.setStatus(TaskStatus.fromValue(taskDto.getStatus()).getValue());
-            logger.info("Task status updated to '{}'", taskDto.getStatus());
+        if (updated == 0) {
+            Task task = taskRepository.findById(id).orElseThrow(() -> {
+                logger.error("Task with ID '{}' not found.", id);
+                return new TaskNotFoundException("Task not found");
+            });
+            boolean versionMatches = taskDto.getVersion() == null || taskDto.getVersion().equals(task.getVersion());
+            if (versionMatches && status != null && !status.getAllowedPredecessors().contains(task.getStatus())) {
+                logger.error("Task with ID '{}' cannot move to status '{}'.", id, taskDto.getStatus());
+                throw new InvalidTaskStatusException("Task cannot move to status " + status.getValue() + " from its current status.");
+            }
+            // Either the expected version is stale or the task changed between the update and this read.
+            logger.error("Task with ID '{}' is at version {}, update expected {}.", id, task.getVersion(), taskDto.getVersion());
+            throw new TaskVersionConflictException("Task was modified concurrently; current version is " + task.getVersion() + ".");
         }
 
-        taskRepository.save(task);
+        if (renamed) {
+            // The previous name is not read, so it is assumed to have been freed.
+            taskNameFilter.addAll(List.of(taskDto.getName()));
+            taskNameFilter.markStale();
+        }
+        taskCache.evict(id);
+        taskSearchIndex.update(id, taskDto.getName(), taskDto.getDescription());
+        taskChangeVersion.bump();
         logger.info("Task with ID: {} updated successfully.", id);
     }
 
 
+    /**
+     * Retrieves a single task, served from the task cache when possible.
+     *
+     * @param id the ID of the task.
+     * @return the task.
+     */
+    public Task getTask(Long id) {
+        return taskCache.get(id).orElseThrow(() -> {
+            logger.error("Task with ID '{}' not found.", id);
+            return new TaskNotFoundException("Task not found");
+        });
+    }
+
+
     /**
      * Retrieves all tasks from the repository.
      *
      * @return a list of all tasks.
      */
     public List<Task> getAllTasks() {
-        if (taskRepository.count() == 0) {
+        logger.info("Retrieving all tasks.");
+        List<Task> tasks = taskRepository.findAll();
+        if (tasks.isEmpty()) {
             logger.warn("No tasks found in the repository.");
             throw new TaskNotFoundException("No tasks available.");
         }
-        logger.info("Retrieving all tasks.");
-        return taskRepository.findAll();
+        return tasks;
+    }
+
+
+    /**
+     * Retrieves one keyset page of tasks ordered by ID.
+     * Unlike offset pagination, the cost of a page does not depend on how deep into the table it is.
+     *
+     * @param afterId the cursor; only tasks with a greater ID are returned.
+     * @param limit the requested page size, clamped to [1, MAX_PAGE_SIZE].
+     * @return the page together with the cursor for the next one.
+     */
+    @Transactional(readOnly = true)
+    public TaskPage getTasksPage(Long afterId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long cursor = afterId != null ? afterId : 0L;
+
+        // Fetch one extra row to learn whether another page exists without a count query.
+        List<Task> tasks = taskRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(pageSize + 1));
+        if (tasks.size() <= pageSize) {
+            return new TaskPage(tasks, null);
+        }
+
+        List<Task> page = tasks.subList(0, pageSize);
+        return new TaskPage(page, page.get(pageSize - 1).getId());
     }
 
 
+    /**
+     * Streams every task in ID order to the given consumer. Rows are read with a JDBC fetch size
+     * and detached right after being handed over, so memory use stays flat regardless of table size.
+     *
+     * @param action the consumer receiving each task.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<Task> action) {
+        try (Stream<Task> tasks = taskRepository.streamAllOrderedById()) {
+            tasks.forEach(task -> {
+                action.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
+
+    private Task newTask(TaskDto taskDto) {
+        Task task = new Task();
+        task.setName(taskDto.getName());
+        task.setDescription(taskDto.getDescription());
+        task.setStatus(TaskStatus.PENDING.getValue());
+        task.setCreated_date(LocalDateTime.now());
+        return task;
+    }
+
     private void validateCreateTask(TaskDto taskDto) {
-        if (taskRepository.existsByName(taskDto.getName())) {
+        // Most names are new; the filter rules them out without a database round trip.
+        if (taskNameFilter.mightContain(taskDto.getName()) && taskRepository.existsByName(taskDto.getName())) {
             logger.error("Task with name '{}' already exists.", taskDto.getName());
             throw new TaskAlreadyExistsException("Task with this name already exists.");
         }
 
-        if (taskRepository.count() >= 100) {
-            logger.error("Task limit reached. Current count: {}", taskRepository.count());
+        validateTaskFields(taskDto);
+
+        // Reserved last: a failed validation must not hold a slot when there is no transaction to roll back.
+        if (!taskAdmissionCounter.tryReserve(1)) {
             throw new TaskLimitReachedException("Task limit reached.");
         }
+    }
 
+    private void validateCreateTasks(List<TaskDto> taskDtos) {
+        if (taskDtos == null || taskDtos.isEmpty()) {
+            logger.error("Task batch is empty.");
+            throw new InvalidTaskStatusException("Task batch cannot be empty.");
+        }
+
+        if (taskDtos.size() > MAX_BATCH_SIZE) {
+            logger.error("Task batch of {} exceeds the maximum of {}.", taskDtos.size(), MAX_BATCH_SIZE);
+            throw new InvalidTaskStatusException("Task batch cannot contain more than " + MAX_BATCH_SIZE + " tasks.");
+        }
+
+        Set<String> names = new HashSet<>();
+        for (TaskDto taskDto : taskDtos) {
+            validateTaskFields(taskDto);
+            if (!names.add(taskDto.getName())) {
+                logger.error("Task name '{}' appears more than once in the batch.", taskDto.getName());
+                throw new TaskAlreadyExistsException("Task batch contains duplicate name: " + taskDto.getName());
+            }
+        }
+
+        List<String> candidates = names.stream().filter(taskNameFilter::mightContain).toList();
+        List<String> existingNames = candidates.isEmpty() ? List.of() : taskRepository.findExistingNames(candidates);
+        if (!existingNames.isEmpty()) {
+            logger.error("Tasks with names {} already exist.", existingNames);
+            throw new TaskAlreadyExistsException("Tasks with these names already exist: " + existingNames);
+        }
+
+        if (!taskAdmissionCounter.tryReserve(taskDtos.size())) {
+            throw new TaskLimitReachedException("Task limit reached.");
+        }
+    }
+
+    private void validateTaskFields(TaskDto taskDto) {
         if (taskDto.getName() == null || taskDto.getName().isEmpty()) {
             logger.error("Task name is invalid.");
             throw new InvalidTaskStatusException("Task name cannot be null or empty.");
@@ -175,12 +374,21 @@ public class TaskService {
     }
 
     private void validateTaskExists(Long id) {
-        if (!taskRepository.existsById(id)) {
+        if (taskCache.get(id).isEmpty()) {
             logger.error("Task with ID '{}' not found.", id);
             throw new TaskNotFoundException("Task not found");
         }
     }
 
+    private TaskStatus parseStatus(String status) {
+        TaskStatus parsed = TaskStatus.fromValueOrNull(status);
+        if (parsed == null) {
+            logger.error("Unknown task status '{}'.", status);
+            throw new InvalidTaskStatusException("Unknown task status: " + status);
+        }
+        return parsed;
+    }
+
     private void validateStatus(String status) {
         if (status == null || status.isEmpty()) {
             logger.error("Invalid task status.");
@@ -0,0 +1,170 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.ConsumedTaskPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-capacity, lock-free ring buffer of consumed tasks.
+ * <p>
+ * Every accepted task gets a monotonically increasing sequence number, which readers use
+ * as an offset. Writers claim a sequence with an atomic increment and publish the entry
+ * into its slot with a CAS, so concurrent listener threads never block each other and
+ * readers never copy more than the requested window.
+ * <p>
+ * Reading does not remove entries. A consumer reports how far it has read with
+ * {@link #acknowledge(long)}; that read cursor is what frees room under {@link EvictionPolicy#DROP_NEWEST}.
+ */
+public class ConsumedTaskBuffer {
+
+    /**
+     * What happens when the buffer is full.
+     */
+    public enum EvictionPolicy {
+        /**
+         * The oldest entry is overwritten by the new one.
+         */
+        OVERWRITE_OLDEST,
+        /**
+         * The new entry is rejected and counted as dropped while {@code capacity} entries past the
+         * read cursor are still unacknowledged. Nothing is dropped that has not been read.
+         */
+        DROP_NEWEST
+    }
+
+    private static final class Slot {
+        private final long sequence;
+        private final Task task;
+
+        private Slot(long sequence, Task task) {
+            this.sequence = sequence;
+            this.task = task;
+        }
+    }
+
+    private final int capacity;
+    private final EvictionPolicy evictionPolicy;
+    private final AtomicReferenceArray<Slot> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong readCursor = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public ConsumedTaskBuffer(int capacity, EvictionPolicy evictionPolicy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.evictionPolicy = evictionPolicy;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Adds a task to the buffer.
+     *
+     * @param task the consumed task.
+     * @return the sequence number assigned to the task, or -1 if it was dropped.
+     */
+    public long add(Task task) {
+        long sequence;
+        if (evictionPolicy == EvictionPolicy.DROP_NEWEST) {
+            do {
+                sequence = nextSequence.get();
+                if (sequence - readCursor.get() >= capacity) {
+                    dropped.incrementAndGet();
+                    return -1;
+                }
+            } while (!nextSequence.compareAndSet(sequence, sequence + 1));
+        } else {
+            sequence = nextSequence.getAndIncrement();
+        }
+
+        Slot slot = new Slot(sequence, task);
+        int index = indexOf(sequence);
+        Slot current;
+        do {
+            current = slots.get(index);
+            if (current != null && current.sequence > sequence) {
+                // A writer that wrapped around already published a newer entry here.
+                return sequence;
+            }
+        } while (!slots.compareAndSet(index, current, slot));
+        return sequence;
+    }
+
+    /**
+     * Reads up to {@code limit} tasks starting at the given sequence number. Entries that have
+     * already been overwritten are skipped; reading stops at the first entry that has been
+     * claimed but not yet published.
+     *
+     * @param fromSequence the first sequence number to read.
+     * @param limit the maximum number of tasks to return.
+     * @return the tasks read together with the offset to continue from.
+     */
+    public ConsumedTaskPage read(long fromSequence, int limit) {
+        long end = nextSequence.get();
+        long sequence = Math.max(Math.max(fromSequence, 0), end - capacity);
+        List<Task> tasks = new ArrayList<>(Math.max(0, (int) Math.min(limit, end - sequence)));
+
+        while (sequence < end && tasks.size() < limit) {
+            Slot slot = slots.get(indexOf(sequence));
+            if (slot == null || slot.sequence < sequence) {
+                break;
+            }
+            if (slot.sequence == sequence) {
+                tasks.add(slot.task);
+            }
+            sequence++;
+        }
+        return new ConsumedTaskPage(tasks, sequence);
+    }
+
+    /**
+     * Marks every entry before the given sequence number as read, so its slot may be reused.
+     * The cursor only moves forward and never past the entries accepted so far.
+     *
+     * @param sequence the sequence number of the first entry that has not been read.
+     */
+    public void acknowledge(long sequence) {
+        readCursor.accumulateAndGet(sequence, (current, next) -> Math.max(current, Math.min(next, nextSequence.get())));
+    }
+
+    /**
+     * @return the sequence number of the first entry that has not been acknowledged.
+     */
+    public long getReadCursor() {
+        return readCursor.get();
+    }
+
+    /**
+     * @return the sequence number the next accepted task will get.
+     */
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * @return the number of tasks currently retained.
+     */
+    public int size() {
+        return (int) Math.min(nextSequence.get(), capacity);
+    }
+
+    /**
+     * @return the number of tasks rejected because the buffer was full of unacknowledged entries.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+}
@@ -2,42 +2,88 @@ package ua.yarynych.taskapi.service.kafka;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.ConsumedTaskPage;
+import ua.yarynych.taskapi.repository.TaskProjectionRepository;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Service class for consuming tasks from Kafka.
- * This class listens to the "task_created" topic and maintains a list of consumed tasks.
+ * This class listens to the "task_created" topic in batch mode. Every polled batch is
+ * upserted into the task projection table with one JDBC batch, and the most recently
+ * consumed tasks are kept in a bounded {@link ConsumedTaskBuffer}.
  * An optional class for checking the logic of sending messages to the Kafka topic
  */
 @Service
 public class KafkaConsumerService {
     private static final Logger logger = LoggerFactory.getLogger(KafkaConsumerService.class);
 
-    private final List<Task> tasks = new ArrayList<>();
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final ConsumedTaskBuffer buffer;
+    private final TaskProjectionRepository taskProjectionRepository;
+
+    @Autowired
+    public KafkaConsumerService(ConsumedTaskBuffer buffer, TaskProjectionRepository taskProjectionRepository) {
+        this.buffer = buffer;
+        this.taskProjectionRepository = taskProjectionRepository;
+    }
 
     /**
-     * Consumes a task from the Kafka topic "task_created".
+     * Consumes one polled batch of tasks from the Kafka topic "task_created".
+     * The batch is processed as a unit: if the projection write fails, the whole batch is redelivered.
      *
-     * @param task the task object consumed from the Kafka topic.
+     * @param tasks the task objects consumed from the Kafka topic.
      */
-    @KafkaListener(topics = "task_created", groupId = "task_group")
-    public void consumeTask(Task task) {
-        tasks.add(task);
-        logger.info("Consumed task with ID: {}", task.getId());
+    @Transactional
+    @KafkaListener(topics = "task_created", groupId = "${task-api.kafka.consumer-group-id:task_group}",
+            autoStartup = "${task-api.kafka.consumer.auto-startup:true}")
+    public void consumeTasks(List<Task> tasks) {
+        List<Task> valid = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            if (task != null && task.getId() != null) {
+                valid.add(task);
+            }
+        }
+
+        taskProjectionRepository.upsertAll(valid);
+
+        int dropped = 0;
+        for (Task task : valid) {
+            if (buffer.add(task) < 0) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            logger.warn("Consumed task buffer is full, dropped {} tasks.", dropped);
+        }
+        logger.info("Consumed batch of {} tasks.", valid.size());
     }
 
     /**
-     * Retrieves the list of consumed tasks.
+     * Retrieves a window of consumed tasks and acknowledges everything before the next offset,
+     * which frees buffer room when the buffer drops new tasks instead of overwriting old ones.
      *
-     * @return a list of consumed tasks.
+     * @param offset the sequence number of the first task to return.
+     * @param limit the maximum number of tasks to return, clamped to [1, MAX_PAGE_SIZE].
+     * @return the tasks and the offset of the next window.
+     */
+    public ConsumedTaskPage getTasks(long offset, int limit) {
+        ConsumedTaskPage page = buffer.read(offset, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        buffer.acknowledge(page.getNextOffset());
+        return page;
+    }
+
+    /**
+     * @return a version of the consumed tasks that changes whenever a task is accepted.
      */
-    public List<Task> getTasks() {
-        logger.info("Retrieving consumed tasks. Total tasks: {}", tasks.size());
-        return new ArrayList<>(tasks);
+    public long getVersion() {
+        return buffer.getNextSequence();
     }
 }
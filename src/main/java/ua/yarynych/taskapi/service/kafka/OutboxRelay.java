@@ -0,0 +1,135 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ua.yarynych.taskapi.entity.OutboxEvent;
+import ua.yarynych.taskapi.repository.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background job that drains the outbox table to Kafka.
+ * Pending events are read in ID order in batches, sent with a bounded number of
+ * in-flight sends, and marked as published once the broker acknowledges them.
+ * Delivery is at-least-once: an event whose acknowledgement is lost is sent again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "task-api.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TaskEventPublisher taskEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final long sendTimeoutMs;
+    private final long retentionHours;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       TaskEventPublisher taskEventPublisher,
+                       ObjectMapper objectMapper,
+                       @Value("${task-api.outbox.batch-size:100}") int batchSize,
+                       @Value("${task-api.outbox.max-in-flight:32}") int maxInFlight,
+                       @Value("${task-api.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+                       @Value("${task-api.outbox.retention-hours:24}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.taskEventPublisher = taskEventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Publishes pending events until the outbox is drained or a batch is only partly acknowledged.
+     */
+    @Scheduled(fixedDelayString = "${task-api.outbox.poll-interval-ms:500}")
+    public void relay() {
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Publishes one batch of pending events.
+     *
+     * @return the number of events marked as published.
+     */
+    int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<CompletableFuture<Long>> sends = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<Long> send = send(event);
+            send.whenComplete((id, ex) -> inFlight.release());
+            sends.add(send);
+        }
+
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (CompletableFuture<Long> send : sends) {
+            try {
+                publishedIds.add(send.get(sendTimeoutMs, TimeUnit.MILLISECONDS));
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warn("Outbox event could not be published, it will be retried.", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+        logger.debug("Published {} of {} outbox events.", publishedIds.size(), events.size());
+        return publishedIds.size();
+    }
+
+    private CompletableFuture<Long> send(OutboxEvent event) {
+        Object payload;
+        try {
+            payload = objectMapper.readValue(event.getPayload(), TaskEventOutbox.payloadType(event.getTopic()));
+        } catch (JsonProcessingException e) {
+            // A payload that cannot be read will never succeed; skip it instead of blocking the outbox.
+            logger.error("Discarding unreadable outbox event with ID: {}", event.getId(), e);
+            return CompletableFuture.completedFuture(event.getId());
+        }
+
+        return taskEventPublisher.publish(event.getTopic(), event.getMessageKey(), payload).thenApply(result -> event.getId());
+    }
+
+    /**
+     * Removes published events older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${task-api.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            logger.info("Purged {} published outbox events.", deleted);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ua.yarynych.taskapi.entity.OutboxEvent;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.TaskStatusChangedEvent;
+import ua.yarynych.taskapi.repository.OutboxEventRepository;
+
+import java.util.List;
+
+/**
+ * Records task events in the outbox table. Writes must join the transaction that changes
+ * the task, so the event exists if and only if the change is committed.
+ */
+@Component
+public class TaskEventOutbox {
+
+    public static final String TASK_CREATED_TOPIC = "task_created";
+    public static final String TASK_STATUS_CHANGED_TOPIC = "task_status_changed";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public TaskEventOutbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records a "task_created" event for the given task.
+     *
+     * @param task the newly created task; its ID must already be assigned.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskCreated(Task task) {
+        outboxEventRepository.save(toEvent(TASK_CREATED_TOPIC, task));
+    }
+
+    /**
+     * Records a "task_created" event for each of the given tasks.
+     *
+     * @param tasks the newly created tasks; their IDs must already be assigned.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void tasksCreated(List<Task> tasks) {
+        outboxEventRepository.saveAll(tasks.stream().map(task -> toEvent(TASK_CREATED_TOPIC, task)).toList());
+    }
+
+    /**
+     * Records one aggregated "task_status_changed" event, keyed by the operation ID.
+     *
+     * @param event the summary of the tasks whose status changed.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskStatusesChanged(TaskStatusChangedEvent event) {
+        outboxEventRepository.save(toEvent(TASK_STATUS_CHANGED_TOPIC, event.getOperationId(), event));
+    }
+
+    /**
+     * Gets the class an outbox payload of the given topic is read back as before publishing.
+     *
+     * @param topic the event topic.
+     * @return the payload class.
+     */
+    public static Class<?> payloadType(String topic) {
+        return TASK_STATUS_CHANGED_TOPIC.equals(topic) ? TaskStatusChangedEvent.class : Task.class;
+    }
+
+    /**
+     * Serializes an event body the way it is stored in the outbox, for writers that insert outbox
+     * rows without going through JPA.
+     *
+     * @param topic the event topic.
+     * @param key the Kafka record key.
+     * @param payload the event body.
+     * @return the JSON payload.
+     */
+    public String toPayload(String topic, String key, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize " + topic + " event " + key + " for the outbox.", e);
+        }
+    }
+
+    private OutboxEvent toEvent(String topic, Task task) {
+        return toEvent(topic, String.valueOf(task.getId()), task);
+    }
+
+    private OutboxEvent toEvent(String topic, String key, Object payload) {
+        return new OutboxEvent(topic, key, toPayload(topic, key, payload));
+    }
+}
@@ -0,0 +1,62 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends task events to Kafka without waiting for the broker.
+ * Every send completes asynchronously; the callback records its latency and outcome
+ * in the {@code task.kafka.send} timer.
+ */
+@Component
+public class TaskEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventPublisher.class);
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Meter.MeterProvider<Timer> sendTimer;
+
+    @Autowired
+    public TaskEventPublisher(KafkaTemplate<String, Object> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.sendTimer = Timer.builder("task.kafka.send")
+                .description("Latency of Kafka sends until broker acknowledgement")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Sends an event to the given topic.
+     *
+     * @param topic the topic to send to.
+     * @param key the record key.
+     * @param event the task or event payload to send.
+     * @return a future completed when the broker acknowledges the record or the send fails.
+     */
+    public CompletableFuture<SendResult<String, Object>> publish(String topic, String key, Object event) {
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> send;
+        try {
+            send = kafkaTemplate.send(topic, key, event);
+        } catch (RuntimeException e) {
+            send = CompletableFuture.failedFuture(e);
+        }
+
+        return send.whenComplete((result, ex) -> {
+            sendTimer.withTags("topic", topic, "outcome", ex == null ? "success" : "failure")
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (ex != null) {
+                logger.warn("Failed to send record with key '{}' to topic '{}'.", key, topic, ex);
+            }
+        });
+    }
+}
@@ -1,11 +1,10 @@
 package ua.yarynych.taskapi.config.db;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.context.ApplicationContext;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -16,12 +15,8 @@ import static org.mockito.Mockito.*;
 
 class CustomRoutingDataSourceTest {
 
-    @InjectMocks
     private CustomRoutingDataSource customRoutingDataSource;
 
-    @Mock
-    private ApplicationContext applicationContext;
-
     @Mock
     private DataSource primaryDataSource;
 
@@ -31,15 +26,28 @@ class CustomRoutingDataSourceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // Open after one failure, close after one success, no wait while open.
+        customRoutingDataSource = new CustomRoutingDataSource(primaryDataSource, new DataSourceCircuitBreaker(1, 1, 0), 1);
+    }
+
+    @Test
+    void testDetermineCurrentLookupKeyDefaultsToPrimary() {
+        // Act
+        Object result = customRoutingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals("H2", result);
+        verifyNoInteractions(primaryDataSource);
     }
 
     @Test
     void testDetermineCurrentLookupKeyPrimaryDataSourceAvailable() throws SQLException {
         // Arrange
-        when(applicationContext.getBean("primaryH2DataSource", DataSource.class)).thenReturn(primaryDataSource);
         when(primaryDataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(1)).thenReturn(true);
 
         // Act
+        customRoutingDataSource.probePrimary();
         Object result = customRoutingDataSource.determineCurrentLookupKey();
 
         // Assert
@@ -50,27 +58,68 @@ class CustomRoutingDataSourceTest {
     @Test
     void testDetermineCurrentLookupKeyPrimaryDataSourceUnavailable() throws SQLException {
         // Arrange
-        when(applicationContext.getBean("primaryH2DataSource", DataSource.class)).thenReturn(primaryDataSource);
         when(primaryDataSource.getConnection()).thenThrow(new SQLException("Connection failed"));
 
         // Act
+        customRoutingDataSource.probePrimary();
         Object result = customRoutingDataSource.determineCurrentLookupKey();
 
         // Assert
         assertEquals("PostgreSQL", result);
+        assertEquals(DataSourceCircuitBreaker.State.OPEN, customRoutingDataSource.getCircuitState());
     }
 
     @Test
-    void testDetermineCurrentLookupKeyNoSuitableDataSource() throws SQLException {
+    void testRoutingDecisionsDoNotTouchPrimary() throws SQLException {
         // Arrange
-        when(applicationContext.getBean("primaryH2DataSource", DataSource.class)).thenReturn(primaryDataSource);
         when(primaryDataSource.getConnection()).thenThrow(new SQLException("Connection failed"));
+        customRoutingDataSource.probePrimary();
 
         // Act
-        Object result = customRoutingDataSource.determineCurrentLookupKey();
+        for (int i = 0; i < 10; i++) {
+            customRoutingDataSource.determineCurrentLookupKey();
+        }
 
         // Assert
-        assertEquals("PostgreSQL", result);
-        verifyNoMoreInteractions(connection);
+        verify(primaryDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void testRouteSwitchesBackAndIsCounted() throws SQLException {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        customRoutingDataSource.bindTo(registry);
+        when(primaryDataSource.getConnection())
+                .thenThrow(new SQLException("Connection failed"))
+                .thenReturn(connection);
+        when(connection.isValid(1)).thenReturn(true);
+
+        // Act
+        customRoutingDataSource.probePrimary();
+        customRoutingDataSource.probePrimary();
+
+        // Assert
+        assertEquals("H2", customRoutingDataSource.determineCurrentLookupKey());
+        assertEquals(1.0, registry.get("task.datasource.route.switches").tag("target", "PostgreSQL").functionCounter().count());
+        assertEquals(1.0, registry.get("task.datasource.route.switches").tag("target", "H2").functionCounter().count());
+        assertEquals(0.0, registry.get("task.datasource.circuit.open").gauge().value());
+    }
+
+    @Test
+    void testRouteDecisionsAreCounted() throws SQLException {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        customRoutingDataSource.bindTo(registry);
+        when(primaryDataSource.getConnection()).thenThrow(new SQLException("Connection failed"));
+
+        // Act
+        customRoutingDataSource.determineCurrentLookupKey();
+        customRoutingDataSource.probePrimary();
+        customRoutingDataSource.determineCurrentLookupKey();
+        customRoutingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(1.0, registry.get("task.datasource.route.decisions").tag("target", "H2").functionCounter().count());
+        assertEquals(2.0, registry.get("task.datasource.route.decisions").tag("target", "PostgreSQL").functionCounter().count());
     }
-}
\ No newline at end of file
+}
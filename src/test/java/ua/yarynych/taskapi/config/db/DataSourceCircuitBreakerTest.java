@@ -0,0 +1,85 @@
+package ua.yarynych.taskapi.config.db;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private DataSourceCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new DataSourceCircuitBreaker(2, 2, 1000, clock::get);
+    }
+
+    @Test
+    void testOpensAfterFailureThreshold() {
+        circuitBreaker.recordFailure();
+        assertEquals(DataSourceCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.recordFailure();
+        assertEquals(DataSourceCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowsPrimary());
+    }
+
+    @Test
+    void testSuccessResetsFailureCount() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+
+        assertEquals(DataSourceCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testNoProbeWhileOpen() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        clock.set(999);
+        assertFalse(circuitBreaker.tryAcquireProbe());
+        assertEquals(DataSourceCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testHalfOpenClosesAfterSuccessThreshold() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        clock.set(1000);
+        assertTrue(circuitBreaker.tryAcquireProbe());
+        assertEquals(DataSourceCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowsPrimary());
+
+        circuitBreaker.recordSuccess();
+        assertEquals(DataSourceCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.recordSuccess();
+        assertEquals(DataSourceCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.allowsPrimary());
+    }
+
+    @Test
+    void testHalfOpenReopensOnFailure() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        clock.set(1000);
+        circuitBreaker.tryAcquireProbe();
+        circuitBreaker.recordFailure();
+
+        assertEquals(DataSourceCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        clock.set(1999);
+        assertFalse(circuitBreaker.tryAcquireProbe());
+    }
+
+    @Test
+    void testInvalidThresholds() {
+        assertThrows(IllegalArgumentException.class, () -> new DataSourceCircuitBreaker(0, 1, 0));
+    }
+}
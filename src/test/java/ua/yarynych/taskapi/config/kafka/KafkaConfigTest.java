@@ -1,9 +1,9 @@
 package ua.yarynych.taskapi.config.kafka;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.MockitoAnnotations;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
@@ -12,23 +12,28 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import ua.yarynych.taskapi.entity.Task;
 
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class KafkaConfigTest {
 
-    @InjectMocks
+    private TaskKafkaProperties kafkaProperties;
     private KafkaConfig kafkaConfig;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        kafkaProperties = new TaskKafkaProperties();
+        kafkaConfig = new KafkaConfig(kafkaProperties, false, new SimpleMeterRegistry());
     }
 
     @Test
     void testKafkaTemplate() {
         // Act
-        KafkaTemplate<String, Task> kafkaTemplate = kafkaConfig.kafkaTemplate();
+        KafkaTemplate<String, Object> kafkaTemplate = kafkaConfig.kafkaTemplate();
 
         // Assert
         assertNotNull(kafkaTemplate);
@@ -37,7 +42,7 @@ public class KafkaConfigTest {
     @Test
     void testProducerFactory() {
         // Act
-        ProducerFactory<String, Task> producerFactory = kafkaConfig.producerFactory();
+        ProducerFactory<String, Object> producerFactory = kafkaConfig.producerFactory();
 
         // Assert
         assertNotNull(producerFactory);
@@ -62,5 +67,47 @@ public class KafkaConfigTest {
         // Assert
         assertNotNull(factory);
         assertNotNull(factory.getConsumerFactory(), "The consumer factory in the container factory should not be null.");
+        assertTrue(Boolean.TRUE.equals(factory.isBatchListener()), "The container factory should deliver batches.");
+    }
+
+    @Test
+    void testProducerConfigsUsePreset() {
+        // Arrange
+        kafkaProperties.setBootstrapServers("broker:29092");
+        kafkaProperties.getProducer().setPreset(ProducerPreset.THROUGHPUT);
+
+        // Act
+        Map<String, Object> configs = kafkaConfig.producerConfigs();
+
+        // Assert
+        assertEquals("broker:29092", configs.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+        assertEquals(20, configs.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals("lz4", configs.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals(true, configs.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+    }
+
+    @Test
+    void testProducerConfigsOverridesWinOverPreset() {
+        // Arrange
+        kafkaProperties.getProducer().setPreset(ProducerPreset.LOW_LATENCY);
+        kafkaProperties.getProducer().setLingerMs(2);
+        kafkaProperties.getProducer().getProperties().put(ProducerConfig.CLIENT_ID_CONFIG, "task-api");
+
+        // Act
+        Map<String, Object> configs = kafkaConfig.producerConfigs();
+
+        // Assert
+        assertEquals(2, configs.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals("1", configs.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals("task-api", configs.get(ProducerConfig.CLIENT_ID_CONFIG));
+    }
+
+    @Test
+    void testListenerUsesDefaultExecutorWithoutVirtualThreads() {
+        // Act
+        ConcurrentKafkaListenerContainerFactory<String, Task> factory = kafkaConfig.kafkaListenerContainerFactory();
+
+        // Assert
+        assertNull(factory.getContainerProperties().getListenerTaskExecutor());
     }
 }
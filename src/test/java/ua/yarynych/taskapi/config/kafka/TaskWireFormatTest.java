@@ -0,0 +1,102 @@
+package ua.yarynych.taskapi.config.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskWireFormatTest {
+
+    private final TaskBinarySerializer binarySerializer = new TaskBinarySerializer();
+    private final AutoDetectingTaskDeserializer deserializer = new AutoDetectingTaskDeserializer();
+
+    @Test
+    void testBinaryRoundTrip() {
+        // Arrange
+        Task task = task(42L, "Write report", "Quarterly numbers — ünïcode", TaskStatus.IN_PROGRESS);
+
+        // Act
+        Task result = deserializer.deserialize("task_created", binarySerializer.serialize("task_created", task));
+
+        // Assert
+        assertEquals(task.getId(), result.getId());
+        assertEquals(task.getName(), result.getName());
+        assertEquals(task.getDescription(), result.getDescription());
+        assertEquals(task.getStatus(), result.getStatus());
+        assertEquals(task.getCreated_date(), result.getCreated_date());
+    }
+
+    @Test
+    void testBinaryRoundTripWithAbsentFields() {
+        // Arrange
+        Task task = new Task();
+        task.setCreated_date(null);
+
+        // Act
+        Task result = deserializer.deserialize("task_created", binarySerializer.serialize("task_created", task));
+
+        // Assert
+        assertNull(result.getId());
+        assertNull(result.getName());
+        assertNull(result.getDescription());
+        assertNull(result.getStatus());
+        assertNull(result.getCreated_date());
+    }
+
+    @Test
+    void testBinaryIsSmallerThanJson() {
+        // Arrange
+        Task task = task(1234L, "Prepare release", "Tag, build and publish", TaskStatus.PENDING);
+        TopicTaskSerializer serializer = new TopicTaskSerializer(Map.of("binary_topic", WireFormat.BINARY), WireFormat.JSON);
+
+        // Act
+        byte[] json = serializer.serialize("json_topic", task);
+        byte[] binary = serializer.serialize("binary_topic", task);
+
+        // Assert
+        assertEquals('{', json[0]);
+        assertEquals(TaskBinarySerializer.VERSION, binary[0]);
+        assertTrue(binary.length < json.length / 2, "Binary should be less than half the JSON size");
+    }
+
+    @Test
+    void testDeserializerStillReadsJson() {
+        // Arrange
+        Task task = task(7L, "Legacy", "Produced before the switch", TaskStatus.COMPLETED);
+        byte[] json = new TopicTaskSerializer(Map.of(), WireFormat.JSON).serialize("task_created", task);
+
+        // Act
+        Task result = deserializer.deserialize("task_created", json);
+
+        // Assert
+        assertEquals(7L, result.getId());
+        assertEquals("Legacy", result.getName());
+        assertEquals(TaskStatus.COMPLETED, result.getStatus());
+    }
+
+    @Test
+    void testTruncatedBinaryIsRejected() {
+        // Arrange
+        byte[] binary = binarySerializer.serialize("task_created", task(1L, "Name", "Description", TaskStatus.PENDING));
+        byte[] truncated = Arrays.copyOf(binary, binary.length - 3);
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("task_created", truncated));
+    }
+
+    private static Task task(Long id, String name, String description, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setName(name);
+        task.setDescription(description);
+        task.setStatus(status.getValue());
+        task.setCreated_date(LocalDateTime.of(2024, 11, 3, 14, 15, 9, 123_456_789));
+        return task;
+    }
+}
@@ -0,0 +1,79 @@
+package ua.yarynych.taskapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSamplingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private LogSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        filter = new LogSamplingTurboFilter();
+        filter.setLoggers("hot.Service, other.Service");
+        filter.setSampleRate(3);
+    }
+
+    @Test
+    void testKeepsOneInSampleRate() {
+        // Arrange
+        Logger logger = loggerContext.getLogger("hot.Service");
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+    }
+
+    @Test
+    void testCountsLoggersSeparately() {
+        // Arrange
+        Logger hot = loggerContext.getLogger("hot.Service");
+        Logger other = loggerContext.getLogger("other.Service");
+        decide(hot, Level.INFO);
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+    }
+
+    @Test
+    void testNeverSamplesWarningsOrUnlistedLoggers() {
+        // Arrange
+        Logger hot = loggerContext.getLogger("hot.Service");
+        Logger cold = loggerContext.getLogger("cold.Service");
+        decide(hot, Level.INFO);
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, decide(hot, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide(hot, Level.ERROR));
+        assertEquals(FilterReply.NEUTRAL, decide(cold, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(cold, Level.INFO));
+    }
+
+    @Test
+    void testDisabledLevelsAreNotCounted() {
+        // Arrange
+        Logger hot = loggerContext.getLogger("hot.Service");
+        hot.setLevel(Level.INFO);
+
+        // Act
+        decide(hot, Level.DEBUG);
+        decide(hot, Level.DEBUG);
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, decide(hot, Level.INFO));
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
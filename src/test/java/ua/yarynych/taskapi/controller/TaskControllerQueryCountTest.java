@@ -0,0 +1,111 @@
+package ua.yarynych.taskapi.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.service.TaskService;
+import ua.yarynych.taskapi.support.SqlStatementCounter;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements per request of the main TaskController endpoints.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.primary.jdbcUrl=jdbc:h2:mem:task-controller-query-count;DB_CLOSE_DELAY=-1",
+        "task-api.r2dbc.primary.url=r2dbc:h2:mem:///task-controller-query-count"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("querycount")
+class TaskControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Task " + UUID.randomUUID());
+        taskDto.setDescription("Query count test");
+        taskDto.setStatus("Pending");
+        taskId = taskService.createTask(taskDto);
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void testCreateTask() throws Exception {
+        // Act
+        mockMvc.perform(post("/api/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Task " + UUID.randomUUID() + "\",\"description\":\"Created over HTTP\",\"status\":\"Pending\"}"))
+                .andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(2);
+    }
+
+    @Test
+    void testGetTask() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}", taskId)).andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testGetTasksPage() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/tasks").param("after", "0").param("limit", "10")).andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testGetAllTasksNotModified() throws Exception {
+        // Arrange
+        String eTag = mockMvc.perform(get("/api/tasks/all")).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        SqlStatementCounter.reset();
+
+        // Act
+        mockMvc.perform(get("/api/tasks/all").header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isNotModified());
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(0);
+    }
+
+    @Test
+    void testUpdateTaskStatus() throws Exception {
+        // Act
+        mockMvc.perform(put("/api/tasks/{id}/status", taskId).param("status", "Completed")).andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testDeleteTask() throws Exception {
+        // Act
+        mockMvc.perform(delete("/api/tasks/{id}", taskId)).andExpect(status().isOk());
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+}
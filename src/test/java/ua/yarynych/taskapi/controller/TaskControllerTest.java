@@ -1,23 +1,48 @@
 package ua.yarynych.taskapi.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ua.yarynych.taskapi.entity.Task;
 import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.dto.TaskPage;
+import ua.yarynych.taskapi.entity.dto.TaskSearchHit;
+import ua.yarynych.taskapi.entity.dto.TaskSearchPage;
+import ua.yarynych.taskapi.entity.dto.BulkResult;
+import ua.yarynych.taskapi.entity.dto.TaskFilter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.service.TaskBulkService;
+import ua.yarynych.taskapi.service.TaskChangeVersion;
+import ua.yarynych.taskapi.service.TaskSearchService;
 import ua.yarynych.taskapi.service.TaskService;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 class TaskControllerTest {
 
@@ -27,6 +52,18 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskBulkService taskBulkService;
+
+    @Mock
+    private TaskSearchService taskSearchService;
+
+    @Spy
+    private TaskChangeVersion taskChangeVersion = new TaskChangeVersion();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -51,6 +88,24 @@ class TaskControllerTest {
         verify(taskService).createTask(taskDto);
     }
 
+    @Test
+    void testCreateTasksSuccess() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("New Task");
+        taskDto.setDescription("Description");
+        taskDto.setStatus("Pending");
+        List<TaskDto> taskDtos = List.of(taskDto);
+        when(taskService.createTasks(taskDtos)).thenReturn(List.of(1L));
+
+        // Act
+        ResponseEntity<List<Long>> response = taskController.createTasks(taskDtos);
+
+        // Assert
+        assertEquals(ResponseEntity.ok(List.of(1L)), response);
+        verify(taskService).createTasks(taskDtos);
+    }
+
     @Test
     void testDeleteTaskSuccess() {
         // Arrange
@@ -64,6 +119,54 @@ class TaskControllerTest {
         verify(taskService).deleteTask(taskId);
     }
 
+    @Test
+    void testDeleteTasksByIds() {
+        // Arrange
+        when(taskBulkService.deleteByIds(List.of(1L, 2L))).thenReturn(2L);
+
+        // Act
+        ResponseEntity<BulkResult> response = taskController.deleteTasks(List.of(1L, 2L), null, null);
+
+        // Assert
+        assertEquals(2L, response.getBody().getAffected());
+        verify(taskBulkService, never()).deleteMatching(any());
+    }
+
+    @Test
+    void testDeleteTasksByFilter() {
+        // Arrange
+        when(taskBulkService.deleteMatching(any(TaskFilter.class))).thenReturn(7L);
+
+        // Act
+        ResponseEntity<BulkResult> response = taskController.deleteTasks(null, TaskStatus.CANCELLED, null);
+
+        // Assert
+        assertEquals(7L, response.getBody().getAffected());
+        verify(taskBulkService).deleteMatching(argThat(filter -> filter.getStatus() == TaskStatus.CANCELLED));
+    }
+
+    @Test
+    void testDeleteTasksRejectsIdsWithFilter() {
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class,
+                () -> taskController.deleteTasks(List.of(1L), TaskStatus.CANCELLED, null));
+    }
+
+    @Test
+    void testUpdateTaskStatusesInBulk() {
+        // Arrange
+        when(taskBulkService.changeStatus(any(TaskFilter.class), eq(TaskStatus.CANCELLED))).thenReturn(4L);
+
+        // Act
+        ResponseEntity<BulkResult> response = taskController.updateTaskStatuses(TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED,
+                null, null, null);
+
+        // Assert
+        assertEquals(4L, response.getBody().getAffected());
+        verify(taskBulkService).changeStatus(argThat(filter -> filter.getStatus() == TaskStatus.IN_PROGRESS),
+                eq(TaskStatus.CANCELLED));
+    }
+
     @Test
     void testUpdateTaskStatusSuccess() {
         // Arrange
@@ -95,6 +198,21 @@ class TaskControllerTest {
         verify(taskService).updateTaskFields(taskId, taskDto);
     }
 
+    @Test
+    void testGetTaskSuccess() {
+        // Arrange
+        Task task = new Task();
+        task.setId(5L);
+        when(taskService.getTask(5L)).thenReturn(task);
+
+        // Act
+        Task response = taskController.getTask(5L);
+
+        // Assert
+        assertEquals(task, response);
+        verify(taskService).getTask(5L);
+    }
+
     @Test
     void testGetAllTasksSuccess() {
         // Arrange
@@ -104,23 +222,170 @@ class TaskControllerTest {
         when(taskService.getAllTasks()).thenReturn(tasks);
 
         // Act
-        List<Task> response = taskController.getAllTasks();
+        ResponseEntity<?> response = taskController.getAllTasks(newGetRequest(null));
 
         // Assert
-        assertEquals(tasks, response);
+        assertEquals(tasks, response.getBody());
+        assertEquals(taskChangeVersion.eTag("tasks"), response.getHeaders().getETag());
         verify(taskService).getAllTasks();
     }
 
+    @Test
+    void testGetAllTasksNotModified() {
+        // Arrange
+        ServletWebRequest request = newGetRequest(taskChangeVersion.eTag("tasks"));
+
+        // Act
+        ResponseEntity<?> response = taskController.getAllTasks(request);
+
+        // Assert
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), request.getResponse().getStatus());
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void testGetAllTasksModifiedAfterChange() {
+        // Arrange
+        String staleETag = taskChangeVersion.eTag("tasks");
+        taskChangeVersion.bump();
+        when(taskService.getAllTasks()).thenReturn(List.of(new Task()));
+
+        // Act
+        ResponseEntity<?> response = taskController.getAllTasks(newGetRequest(staleETag));
+
+        // Assert
+        assertEquals(1, ((List<?>) response.getBody()).size());
+        assertNotEquals(staleETag, response.getHeaders().getETag());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetAllTasksStreamsNdjson() throws Exception {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        Task task2 = new Task();
+        task2.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return null;
+        }).when(taskService).streamAllTasks(any(Consumer.class));
+        ServletWebRequest request = newGetRequest(null);
+        ((MockHttpServletRequest) request.getRequest()).addHeader("Accept", "application/x-ndjson");
+
+        // Act
+        ResponseEntity<?> response = taskController.getAllTasks(request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(taskChangeVersion.eTag("tasks-ndjson"), response.getHeaders().getETag());
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    void testGetAllTasksWildcardAcceptKeepsJsonArray() {
+        // Arrange
+        when(taskService.getAllTasks()).thenReturn(List.of(new Task()));
+        ServletWebRequest request = newGetRequest(null);
+        ((MockHttpServletRequest) request.getRequest()).addHeader("Accept", "*/*");
+
+        // Act
+        ResponseEntity<?> response = taskController.getAllTasks(request);
+
+        // Assert
+        assertTrue(response.getBody() instanceof List);
+        verify(taskService, never()).streamAllTasks(any());
+    }
+
     @Test
     void testGetAllTasksEmpty() {
         // Arrange
         when(taskService.getAllTasks()).thenReturn(Collections.emptyList());
 
         // Act
-        List<Task> response = taskController.getAllTasks();
+        ResponseEntity<?> response = taskController.getAllTasks(newGetRequest(null));
 
         // Assert
-        assertTrue(response.isEmpty());
+        assertTrue(((List<?>) response.getBody()).isEmpty());
         verify(taskService).getAllTasks();
     }
+
+    @Test
+    void testGetTasksPage() {
+        // Arrange
+        Task task = new Task();
+        task.setId(11L);
+        TaskPage page = new TaskPage(List.of(task), 11L);
+        when(taskService.getTasksPage(10L, 1)).thenReturn(page);
+
+        // Act
+        ResponseEntity<TaskPage> response = taskController.getTasksPage(10L, 1, newGetRequest(null));
+
+        // Assert
+        assertEquals(page, response.getBody());
+        assertNotNull(response.getHeaders().getETag());
+        verify(taskService).getTasksPage(10L, 1);
+    }
+
+    @Test
+    void testSearchTasks() {
+        // Arrange
+        Task task = new Task();
+        task.setId(3L);
+        TaskSearchPage page = new TaskSearchPage(List.of(new TaskSearchHit(task, 1.5)), 1);
+        when(taskSearchService.search("report", 0, 20)).thenReturn(page);
+
+        // Act
+        TaskSearchPage response = taskController.searchTasks("report", 0, 20);
+
+        // Assert
+        assertEquals(page, response);
+        verify(taskSearchService).search("report", 0, 20);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamAllTasksWritesJsonArray() throws Exception {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        Task task2 = new Task();
+        task2.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return null;
+        }).when(taskService).streamAllTasks(any(Consumer.class));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = taskController.streamAllTasks();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertNotNull(response.getBody());
+        response.getBody().writeTo(out);
+
+        // Assert
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertTrue(json.isArray());
+        assertEquals(2, json.size());
+        assertEquals(1L, json.get(0).get("id").asLong());
+        assertEquals(2L, json.get(1).get("id").asLong());
+    }
+
+    private static ServletWebRequest newGetRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/all");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,37 @@
+package ua.yarynych.taskapi.entity.converters;
+
+import org.junit.jupiter.api.Test;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskStatusConverterTest {
+
+    private final TaskStatusConverter converter = new TaskStatusConverter();
+
+    @Test
+    void testRoundTripsEveryStatus() {
+        for (TaskStatus status : TaskStatus.values()) {
+            assertEquals(status, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status)));
+        }
+    }
+
+    @Test
+    void testStoresStableCodes() {
+        assertEquals((short) 0, converter.convertToDatabaseColumn(TaskStatus.PENDING));
+        assertEquals((short) 1, converter.convertToDatabaseColumn(TaskStatus.IN_PROGRESS));
+        assertEquals((short) 2, converter.convertToDatabaseColumn(TaskStatus.COMPLETED));
+        assertEquals((short) 3, converter.convertToDatabaseColumn(TaskStatus.CANCELLED));
+    }
+
+    @Test
+    void testNullStatus() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void testUnknownCode() {
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute((short) 42));
+    }
+}
@@ -38,4 +38,19 @@ class TaskStatusTest {
 
         assertEquals("Invalid status value: Non-existent Status", exception.getMessage());
     }
+
+    @Test
+    void testFromValueOrNull() {
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.fromValueOrNull("IN PROGRESS"));
+        assertNull(TaskStatus.fromValueOrNull("Non-existent Status"));
+        assertNull(TaskStatus.fromValueOrNull(null));
+    }
+
+    @Test
+    void testFromCode() {
+        for (TaskStatus status : TaskStatus.values()) {
+            assertEquals(status, TaskStatus.fromCode(status.getCode()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> TaskStatus.fromCode((short) -1));
+    }
 }
@@ -0,0 +1,64 @@
+package ua.yarynych.taskapi.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskProjectionRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskProjectionRepository taskProjectionRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:projection;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE task_projection (id BIGINT PRIMARY KEY, name VARCHAR(255), "
+                + "description VARCHAR(255), status SMALLINT, created_date TIMESTAMP, consumed_at TIMESTAMP)");
+        taskProjectionRepository = new TaskProjectionRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE task_projection");
+    }
+
+    @Test
+    void testUpsertAllInsertsAndUpdates() {
+        // Arrange
+        Task task1 = task(1L, "Task 1", "Pending");
+        Task task2 = task(2L, "Task 2", "Pending");
+        taskProjectionRepository.upsertAll(List.of(task1, task2));
+
+        // Act
+        int written = taskProjectionRepository.upsertAll(List.of(task(1L, "Task 1 renamed", "Completed")));
+
+        // Assert
+        assertEquals(1, written);
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_projection", Integer.class));
+        assertEquals("Task 1 renamed", jdbcTemplate.queryForObject("SELECT name FROM task_projection WHERE id = 1", String.class));
+        assertEquals(TaskStatus.COMPLETED.getCode(), jdbcTemplate.queryForObject("SELECT status FROM task_projection WHERE id = 1", Short.class));
+    }
+
+    @Test
+    void testUpsertAllEmpty() {
+        assertEquals(0, taskProjectionRepository.upsertAll(Collections.emptyList()));
+    }
+
+    private static Task task(Long id, String name, String status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setName(name);
+        task.setDescription("Description");
+        task.setStatus(status);
+        return task;
+    }
+}
@@ -0,0 +1,66 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("task-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("task-" + i));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateIsNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("task-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "False positive rate should stay close to 1%");
+    }
+
+    @Test
+    void testSaturation() {
+        BloomFilter filter = new BloomFilter(2, 0.01);
+        filter.put("a");
+        filter.put("b");
+        assertFalse(filter.isSaturated());
+
+        filter.put("c");
+        assertTrue(filter.isSaturated());
+    }
+
+    @Test
+    void testRepeatedPutsDoNotSaturate() {
+        BloomFilter filter = new BloomFilter(2, 0.01);
+        assertTrue(filter.put("a"));
+        assertFalse(filter.put("a"));
+        filter.put("b");
+        filter.put("b");
+
+        assertEquals(2, filter.getInsertions());
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    void testInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1.0));
+    }
+}
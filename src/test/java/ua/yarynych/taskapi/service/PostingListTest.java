@@ -0,0 +1,59 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostingListTest {
+
+    @Test
+    void testPutGetRemove() {
+        PostingList list = new PostingList("report");
+        list.put(1L, 0.5f);
+        list.put(2L, 0.7f);
+        list.put(1L, 0.6f);
+
+        assertEquals(2, list.size());
+        assertEquals(0.6f, list.get(1L));
+        assertTrue(list.remove(1L));
+        assertFalse(list.remove(1L));
+        assertEquals(0f, list.get(1L));
+        assertEquals(0.7f, list.get(2L));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomChanges() {
+        PostingList list = new PostingList("term");
+        Map<Long, Float> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id) != null, list.remove(id));
+            } else {
+                float weight = 0.1f + random.nextFloat();
+                list.put(id, weight);
+                expected.put(id, weight);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (long id = 1; id <= 5_000; id++) {
+            assertEquals(expected.getOrDefault(id, 0f), list.get(id));
+        }
+        int occupied = 0;
+        for (int slot = 0; slot < list.capacity(); slot++) {
+            if (list.idAt(slot) != 0) {
+                occupied++;
+                assertEquals(expected.get(list.idAt(slot)), list.weightAt(slot));
+            }
+        }
+        assertEquals(expected.size(), occupied);
+    }
+}
@@ -0,0 +1,320 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.entity.errors.TaskAlreadyExistsException;
+import ua.yarynych.taskapi.entity.errors.TaskLimitReachedException;
+import ua.yarynych.taskapi.entity.errors.TaskNotFoundException;
+import ua.yarynych.taskapi.entity.errors.TaskVersionConflictException;
+import ua.yarynych.taskapi.repository.ReactiveTaskRepository;
+import ua.yarynych.taskapi.service.kafka.TaskEventOutbox;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReactiveTaskServiceTest {
+
+    @Mock
+    private ReactiveTaskRepository reactiveTaskRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private TaskEventOutbox taskEventOutbox;
+
+    @Mock
+    private TaskNameFilter taskNameFilter;
+
+    @Mock
+    private TaskAdmissionCounter taskAdmissionCounter;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskChangeVersion taskChangeVersion;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @InjectMocks
+    private ReactiveTaskService reactiveTaskService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskAdmissionCounter.isInitialized()).thenReturn(true);
+    }
+
+    @Test
+    void testCreateTaskWritesTaskAndOutboxEvent() {
+        // Arrange
+        TaskDto taskDto = newTaskDto("Test Task");
+        when(taskNameFilter.mightContain("Test Task")).thenReturn(false);
+        when(taskAdmissionCounter.tryReserveInFlight(1)).thenReturn(true);
+        when(reactiveTaskRepository.insert(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(7L);
+            return Mono.just(task);
+        });
+        when(taskEventOutbox.toPayload(eq(TaskEventOutbox.TASK_CREATED_TOPIC), eq("7"), any())).thenReturn("{}");
+        when(reactiveTaskRepository.insertOutboxEvent(TaskEventOutbox.TASK_CREATED_TOPIC, "7", "{}")).thenReturn(Mono.empty());
+
+        // Act
+        Long id = reactiveTaskService.createTask(taskDto).block();
+
+        // Assert
+        assertEquals(7L, id);
+        verify(reactiveTaskRepository, never()).existsByName(anyString());
+        verify(reactiveTaskRepository).insertOutboxEvent(TaskEventOutbox.TASK_CREATED_TOPIC, "7", "{}");
+        verify(taskNameFilter).addAll(List.of("Test Task"));
+        verify(taskAdmissionCounter).complete(1, true);
+        verify(taskAdmissionCounter, never()).initialize();
+    }
+
+    @Test
+    void testCreateTaskInitializesAdmissionCounterOffEventLoop() {
+        // Arrange
+        TaskDto taskDto = newTaskDto("Test Task");
+        when(taskAdmissionCounter.isInitialized()).thenReturn(false);
+        when(taskNameFilter.mightContain("Test Task")).thenReturn(false);
+        when(taskAdmissionCounter.tryReserveInFlight(1)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TaskLimitReachedException.class, () -> reactiveTaskService.createTask(taskDto).block());
+        verify(taskAdmissionCounter).initialize();
+    }
+
+    @Test
+    void testCreateTaskAlreadyExists() {
+        // Arrange
+        TaskDto taskDto = newTaskDto("Test Task");
+        when(taskNameFilter.mightContain("Test Task")).thenReturn(true);
+        when(reactiveTaskRepository.existsByName("Test Task")).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        assertThrows(TaskAlreadyExistsException.class, () -> reactiveTaskService.createTask(taskDto).block());
+        verify(taskAdmissionCounter, never()).tryReserveInFlight(anyInt());
+        verify(reactiveTaskRepository, never()).insert(any());
+    }
+
+    @Test
+    void testCreateTaskLimitReached() {
+        // Arrange
+        TaskDto taskDto = newTaskDto("Test Task");
+        when(taskNameFilter.mightContain("Test Task")).thenReturn(false);
+        when(taskAdmissionCounter.tryReserveInFlight(1)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TaskLimitReachedException.class, () -> reactiveTaskService.createTask(taskDto).block());
+        verify(reactiveTaskRepository, never()).insert(any());
+    }
+
+    @Test
+    void testCreateTaskReleasesReservationWhenInsertFails() {
+        // Arrange
+        TaskDto taskDto = newTaskDto("Test Task");
+        when(taskNameFilter.mightContain("Test Task")).thenReturn(false);
+        when(taskAdmissionCounter.tryReserveInFlight(1)).thenReturn(true);
+        when(reactiveTaskRepository.insert(any(Task.class))).thenReturn(Mono.error(new IllegalStateException("db down")));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> reactiveTaskService.createTask(taskDto).block());
+        verify(taskAdmissionCounter).complete(1, false);
+        verify(taskNameFilter, never()).addAll(any());
+    }
+
+    @Test
+    void testCreateTaskReleasesReservationWhenCancelled() {
+        // Arrange
+        TaskDto taskDto = newTaskDto("Test Task");
+        when(taskNameFilter.mightContain("Test Task")).thenReturn(false);
+        when(taskAdmissionCounter.tryReserveInFlight(1)).thenReturn(true);
+        when(reactiveTaskRepository.insert(any(Task.class))).thenReturn(Mono.never());
+
+        // Act
+        reactiveTaskService.createTask(taskDto).subscribe().dispose();
+
+        // Assert
+        verify(taskAdmissionCounter).complete(1, false);
+        verify(taskAdmissionCounter, never()).complete(1, true);
+    }
+
+    @Test
+    void testCreateTaskInvalidFieldsFailsWithoutQuerying() {
+        // Arrange
+        TaskDto taskDto = newTaskDto("");
+
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> reactiveTaskService.createTask(taskDto).block());
+        verifyNoInteractions(reactiveTaskRepository);
+    }
+
+    @Test
+    void testGetTaskReadsThroughCache() {
+        // Arrange
+        Task task = new Task();
+        task.setId(1L);
+        when(taskCache.getIfPresent(1L)).thenReturn(Optional.empty());
+        when(taskCache.evictionStamp()).thenReturn(3L);
+        when(reactiveTaskRepository.findById(1L)).thenReturn(Mono.just(task));
+
+        // Act
+        Task loaded = reactiveTaskService.getTask(1L).block();
+
+        // Assert
+        assertSame(task, loaded);
+        verify(taskCache).putIfNotEvicted(task, 3L);
+    }
+
+    @Test
+    void testGetTaskServedFromCache() {
+        // Arrange
+        Task cached = new Task();
+        cached.setId(1L);
+        when(taskCache.getIfPresent(1L)).thenReturn(Optional.of(cached));
+
+        // Act
+        Task loaded = reactiveTaskService.getTask(1L).block();
+
+        // Assert
+        assertSame(cached, loaded);
+        verify(reactiveTaskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetTaskNotFound() {
+        // Arrange
+        when(taskCache.getIfPresent(1L)).thenReturn(Optional.empty());
+        when(reactiveTaskRepository.findById(1L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> reactiveTaskService.getTask(1L).block());
+    }
+
+    @Test
+    void testUpdateTaskFieldsVersionConflict() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setDescription("New description");
+        taskDto.setVersion(1L);
+        Task current = new Task();
+        current.setId(1L);
+        current.setStatus(TaskStatus.PENDING.getValue());
+        current.setVersion(2L);
+        when(reactiveTaskRepository.updateFields(1L, null, "New description", null, 1L, false)).thenReturn(Mono.just(0L));
+        when(reactiveTaskRepository.findById(1L)).thenReturn(Mono.just(current));
+
+        // Act & Assert
+        assertThrows(TaskVersionConflictException.class, () -> reactiveTaskService.updateTaskFields(1L, taskDto).block());
+        verify(taskCache, never()).evict(any());
+        verify(taskChangeVersion, never()).bump();
+    }
+
+    @Test
+    void testUpdateTaskFieldsEvictsCache() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setStatus("Completed");
+        when(reactiveTaskRepository.updateFields(1L, null, null, TaskStatus.COMPLETED, null, false)).thenReturn(Mono.just(1L));
+
+        // Act
+        reactiveTaskService.updateTaskFields(1L, taskDto).block();
+
+        // Assert
+        verify(taskCache).evict(1L);
+        verify(taskSearchIndex).update(1L, null, null);
+        verify(taskChangeVersion).bump();
+        verify(reactiveTaskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUpdateTaskFieldsUnchangedNameDoesNotMarkNameFilterStale() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Same Task");
+        when(reactiveTaskRepository.updateFields(1L, "Same Task", null, null, null, true)).thenReturn(Mono.just(0L));
+        when(reactiveTaskRepository.updateFields(1L, "Same Task", null, null, null, false)).thenReturn(Mono.just(1L));
+
+        // Act
+        reactiveTaskService.updateTaskFields(1L, taskDto).block();
+
+        // Assert
+        verify(taskNameFilter, never()).markStale();
+        verify(taskCache).evict(1L);
+        verify(taskChangeVersion).bump();
+    }
+
+    @Test
+    void testUpdateTaskFieldsRenameMarksNameFilterStale() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Renamed Task");
+        when(reactiveTaskRepository.updateFields(1L, "Renamed Task", null, null, null, true)).thenReturn(Mono.just(1L));
+
+        // Act
+        reactiveTaskService.updateTaskFields(1L, taskDto).block();
+
+        // Assert
+        verify(reactiveTaskRepository, never()).updateFields(1L, "Renamed Task", null, null, null, false);
+        verify(taskNameFilter).markStale();
+    }
+
+    @Test
+    void testUpdateTaskFieldsRejectsEmptyPatch() {
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> reactiveTaskService.updateTaskFields(1L, new TaskDto()).block());
+        verify(reactiveTaskRepository, never()).updateFields(any(), any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void testDeleteTask() {
+        // Arrange
+        when(taskAdmissionCounter.generation()).thenReturn(2L);
+        when(reactiveTaskRepository.deleteById(1L)).thenReturn(Mono.just(1L));
+
+        // Act
+        reactiveTaskService.deleteTask(1L).block();
+
+        // Assert
+        verify(taskAdmissionCounter).release(1, 2L);
+        verify(taskCache).evict(1L);
+        verify(taskNameFilter).markStale();
+    }
+
+    @Test
+    void testDeleteTaskNotFound() {
+        // Arrange
+        when(reactiveTaskRepository.deleteById(1L)).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> reactiveTaskService.deleteTask(1L).block());
+        verify(taskAdmissionCounter, never()).release(anyLong(), anyLong());
+    }
+
+    private static TaskDto newTaskDto(String name) {
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName(name);
+        taskDto.setDescription("Test Description");
+        taskDto.setStatus("Pending");
+        return taskDto;
+    }
+}
@@ -0,0 +1,200 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskAdmissionCounterTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskAdmissionCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        counter = new TaskAdmissionCounter(taskRepository, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testInitializesFromDatabaseOnce() {
+        // Arrange
+        when(taskRepository.count()).thenReturn(1L);
+
+        // Act
+        assertTrue(counter.tryReserve(1));
+        assertTrue(counter.tryReserve(1));
+
+        // Assert
+        assertEquals(3, counter.getCount());
+        verify(taskRepository, times(1)).count();
+    }
+
+    @Test
+    void testRejectsReservationsOverLimit() {
+        // Arrange
+        when(taskRepository.count()).thenReturn(2L);
+
+        // Act & Assert
+        assertFalse(counter.tryReserve(2));
+        assertTrue(counter.tryReserve(1));
+        assertFalse(counter.tryReserve(1));
+    }
+
+    @Test
+    void testReleaseFreesSlots() {
+        // Arrange
+        when(taskRepository.count()).thenReturn(3L);
+        counter.reconcile();
+
+        // Act
+        counter.release(1);
+
+        // Assert
+        assertTrue(counter.tryReserve(1));
+    }
+
+    @Test
+    void testRollbackReturnsReservation() {
+        // Arrange
+        when(taskRepository.count()).thenReturn(0L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        assertTrue(counter.tryReserve(2));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(0, counter.getCount());
+    }
+
+    @Test
+    void testReconcileKeepsInFlightReservations() {
+        // Arrange
+        when(taskRepository.count()).thenReturn(0L, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(counter.tryReserve(2));
+
+        // Act
+        counter.reconcile();
+
+        // Assert
+        assertEquals(3, counter.getCount());
+    }
+
+    @Test
+    void testReleaseAfterReconcileIsNotSubtractedTwice() {
+        // Arrange
+        when(taskRepository.count()).thenReturn(3L, 2L);
+        counter.reconcile();
+        TransactionSynchronizationManager.initSynchronization();
+        counter.release(1);
+
+        // Act: the reconciliation already sees the committed delete
+        counter.reconcile();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(2, counter.getCount());
+    }
+
+    @Test
+    void testCompletionDuringCountIsNotBlockedAndStaysCounted() {
+        // Arrange: the reservation commits after the count's snapshot, so the count misses it
+        when(taskRepository.count()).thenReturn(0L).thenAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> counter.complete(1, true)).get(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+        counter.reconcile();
+        assertTrue(counter.tryReserveInFlight(1));
+
+        // Act
+        counter.reconcile();
+
+        // Assert
+        assertEquals(1, counter.getCount());
+    }
+
+    @Test
+    void testReconcileDuringConcurrentCreatesNeverExceedsLimit() throws Exception {
+        // Arrange: rows commit before their reservation settles, as with a real transaction
+        int limit = 50;
+        TaskRepository repository = mock(TaskRepository.class, withSettings().stubOnly());
+        counter = new TaskAdmissionCounter(repository, limit);
+        AtomicLong rows = new AtomicLong();
+        AtomicLong maxRows = new AtomicLong();
+        when(repository.count()).thenAnswer(invocation -> rows.get());
+        counter.reconcile();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int n = 0; n < 20_000; n++) {
+                    if (random.nextInt(3) == 0) {
+                        long stamp = counter.generation();
+                        long before = rows.get();
+                        if (before > 0 && rows.compareAndSet(before, before - 1)) {
+                            counter.release(1, stamp);
+                        }
+                    } else if (counter.tryReserveInFlight(1)) {
+                        boolean committed = random.nextInt(4) != 0;
+                        if (committed) {
+                            maxRows.accumulateAndGet(rows.incrementAndGet(), Math::max);
+                        }
+                        counter.complete(1, committed);
+                    }
+                }
+            }));
+        }
+        Future<?> reconciler = executor.submit(() -> {
+            while (running.get()) {
+                counter.reconcile();
+            }
+        });
+
+        // Act
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        reconciler.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertTrue(maxRows.get() <= limit, "Stored tasks exceeded the limit: " + maxRows.get());
+        assertTrue(counter.getCount() >= rows.get());
+        counter.reconcile();
+        assertEquals(rows.get(), counter.getCount());
+    }
+}
@@ -0,0 +1,194 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import ua.yarynych.taskapi.entity.dto.TaskFilter;
+import ua.yarynych.taskapi.entity.dto.TaskStatusChangedEvent;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.repository.TaskRepository;
+import ua.yarynych.taskapi.service.kafka.TaskEventOutbox;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskAdmissionCounter taskAdmissionCounter;
+
+    @Mock
+    private TaskNameFilter taskNameFilter;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskChangeVersion taskChangeVersion;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskEventOutbox taskEventOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskBulkService taskBulkService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskBulkService = new TaskBulkService(taskRepository, taskAdmissionCounter, taskNameFilter, taskCache,
+                taskChangeVersion, taskSearchIndex, taskEventOutbox, transactionManager, 2);
+    }
+
+    @Test
+    void testDeleteByIdsRunsOneStatementPerChunk() {
+        // Arrange
+        when(taskRepository.deleteTasksByIds(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // Act
+        long deleted = taskBulkService.deleteByIds(List.of(1L, 2L, 3L, 3L));
+
+        // Assert
+        assertEquals(3, deleted);
+        verify(taskRepository).deleteTasksByIds(List.of(1L, 2L));
+        verify(taskRepository).deleteTasksByIds(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+        verify(taskAdmissionCounter).release(2);
+        verify(taskAdmissionCounter).release(1);
+        verify(taskCache).evict(3L);
+        verify(taskChangeVersion, times(2)).bump();
+        verify(taskSearchIndex).removeAll(List.of(1L, 2L));
+        verify(taskSearchIndex).removeAll(List.of(3L));
+    }
+
+    @Test
+    void testDeleteByIdsRejectsEmptyList() {
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskBulkService.deleteByIds(Collections.emptyList()));
+    }
+
+    @Test
+    void testDeleteMatchingWalksChunksByKeyset() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.CANCELLED, null, null, null);
+        when(taskRepository.findIdsMatching(filter, 0, 2)).thenReturn(List.of(4L, 7L));
+        when(taskRepository.findIdsMatching(filter, 7, 2)).thenReturn(List.of(9L));
+        when(taskRepository.deleteTasksByIds(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // Act
+        long deleted = taskBulkService.deleteMatching(filter);
+
+        // Assert
+        assertEquals(3, deleted);
+        verify(taskRepository).deleteTasksByIds(List.of(4L, 7L));
+        verify(taskRepository).deleteTasksByIds(List.of(9L));
+        verify(taskNameFilter).markStale(2);
+        verify(taskNameFilter).markStale(1);
+    }
+
+    @Test
+    void testDeleteMatchingRequiresFilter() {
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskBulkService.deleteMatching(new TaskFilter(null, null, null, null)));
+        verify(taskRepository, never()).findIdsMatching(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testChangeStatusPublishesOneEventPerChunk() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.IN_PROGRESS, null, null, null);
+        when(taskRepository.findIdsMatching(filter, 0, 2)).thenReturn(List.of(3L, 5L));
+        when(taskRepository.findIdsMatching(filter, 5, 2)).thenReturn(Collections.emptyList());
+        when(taskRepository.updateStatusByIds(List.of(3L, 5L), TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED)).thenReturn(2);
+
+        // Act
+        long changed = taskBulkService.changeStatus(filter, TaskStatus.CANCELLED);
+
+        // Assert
+        assertEquals(2, changed);
+        verify(taskEventOutbox, times(1)).taskStatusesChanged(argThat((TaskStatusChangedEvent event) ->
+                event.getCount() == 2 && event.getFirstTaskId() == 3L && event.getLastTaskId() == 5L
+                        && event.getTo() == TaskStatus.CANCELLED));
+        verify(taskCache).evict(3L);
+        verify(taskCache).evict(5L);
+    }
+
+    @Test
+    void testChangeStatusSkipsEventWhenNothingChanged() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.PENDING, null, null, List.of(1L));
+        when(taskRepository.findIdsMatching(filter, 0, 2)).thenReturn(List.of(1L));
+        when(taskRepository.updateStatusByIds(any(), any(), any())).thenReturn(0);
+
+        // Act
+        long changed = taskBulkService.changeStatus(filter, TaskStatus.COMPLETED);
+
+        // Assert
+        assertEquals(0, changed);
+        verifyNoInteractions(taskEventOutbox);
+        verifyNoInteractions(taskChangeVersion);
+    }
+
+    @Test
+    void testChangeStatusSplitsIdListIntoChunks() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.PENDING, null, null, List.of(9L, 1L, 5L, 3L, 3L));
+        when(taskRepository.findIdsMatching(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            TaskFilter slice = invocation.getArgument(0);
+            long afterId = invocation.getArgument(1);
+            return slice.getIds().stream().filter(id -> id > afterId).toList();
+        });
+        when(taskRepository.updateStatusByIds(any(), any(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // Act
+        long changed = taskBulkService.changeStatus(filter, TaskStatus.IN_PROGRESS);
+
+        // Assert
+        assertEquals(4, changed);
+        verify(taskRepository).updateStatusByIds(List.of(1L, 3L), TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+        verify(taskRepository).updateStatusByIds(List.of(5L, 9L), TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+        verify(taskRepository, never()).findIdsMatching(argThat(slice -> slice.getIds().size() > 2), anyLong(), anyInt());
+    }
+
+    @Test
+    void testDeleteMatchingSplitsIdListIntoChunks() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(null, null, null, List.of(4L, 2L, 6L));
+        when(taskRepository.findIdsMatching(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            TaskFilter slice = invocation.getArgument(0);
+            long afterId = invocation.getArgument(1);
+            return slice.getIds().stream().filter(id -> id > afterId).toList();
+        });
+        when(taskRepository.deleteTasksByIds(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // Act
+        long deleted = taskBulkService.deleteMatching(filter);
+
+        // Assert
+        assertEquals(3, deleted);
+        verify(taskRepository).deleteTasksByIds(List.of(2L, 4L));
+        verify(taskRepository).deleteTasksByIds(List.of(6L));
+        verify(taskRepository, never()).findIdsMatching(argThat(slice -> slice.getIds().size() > 2), anyLong(), anyInt());
+    }
+
+    @Test
+    void testChangeStatusRejectsForbiddenTransition() {
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskBulkService.changeStatus(
+                new TaskFilter(TaskStatus.COMPLETED, null, null, null), TaskStatus.PENDING));
+        verify(taskRepository, never()).updateStatusByIds(any(), any(), any());
+    }
+}
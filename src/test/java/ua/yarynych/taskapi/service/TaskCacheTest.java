@@ -0,0 +1,133 @@
+package ua.yarynych.taskapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskCacheTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskCache taskCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskCache = new TaskCache(taskRepository, 100, 60_000);
+    }
+
+    @Test
+    void testSecondReadIsServedFromCache() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L)));
+
+        // Act
+        Task first = taskCache.get(1L).orElseThrow();
+        Task second = taskCache.get(1L).orElseThrow();
+
+        // Assert
+        assertEquals("Task 1", second.getName());
+        assertEquals(TaskStatus.PENDING, second.getStatus());
+        assertNotSame(first, second);
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testCallersCannotModifyCachedEntry() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L)));
+
+        // Act
+        taskCache.get(1L).orElseThrow().setName("Changed");
+
+        // Assert
+        assertEquals("Task 1", taskCache.get(1L).orElseThrow().getName());
+    }
+
+    @Test
+    void testEvictForcesReload() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L)));
+        taskCache.get(1L);
+
+        // Act
+        taskCache.evict(1L);
+        taskCache.get(1L);
+
+        // Assert
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testMissingTaskIsNotCached() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(taskCache.get(1L).isEmpty());
+        assertTrue(taskCache.get(1L).isEmpty());
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testPutIfNotEvictedCachesExternallyLoadedTask() {
+        // Arrange
+        long stamp = taskCache.evictionStamp();
+
+        // Act
+        taskCache.putIfNotEvicted(task(1L), stamp);
+
+        // Assert
+        assertEquals("Task 1", taskCache.getIfPresent(1L).orElseThrow().getName());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testPutAfterEvictionIsDropped() {
+        // Arrange
+        long stamp = taskCache.evictionStamp();
+        taskCache.evict(1L);
+
+        // Act
+        taskCache.putIfNotEvicted(task(1L), stamp);
+
+        // Assert
+        assertTrue(taskCache.getIfPresent(1L).isEmpty());
+    }
+
+    @Test
+    void testHitAndMissMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        taskCache.bindTo(registry);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L)));
+
+        // Act
+        taskCache.get(1L);
+        taskCache.get(1L);
+
+        // Assert
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "tasks").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "tasks").tag("result", "miss").functionCounter().count());
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setName("Task " + id);
+        task.setDescription("Description");
+        task.setStatus(TaskStatus.PENDING.getValue());
+        return task;
+    }
+}
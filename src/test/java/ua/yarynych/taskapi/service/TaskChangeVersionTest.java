@@ -0,0 +1,49 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskChangeVersionTest {
+
+    private final TaskChangeVersion taskChangeVersion = new TaskChangeVersion();
+
+    @Test
+    void testBumpWithoutTransactionChangesETag() {
+        // Arrange
+        String before = taskChangeVersion.eTag("tasks");
+
+        // Act
+        taskChangeVersion.bump();
+
+        // Assert
+        assertEquals(1, taskChangeVersion.get());
+        assertNotEquals(before, taskChangeVersion.eTag("tasks"));
+        assertTrue(before.startsWith("W/\"tasks-") && before.endsWith("\""));
+    }
+
+    @Test
+    void testBumpInTransactionWaitsForCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            taskChangeVersion.bump();
+
+            // Assert
+            assertEquals(0, taskChangeVersion.get());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, taskChangeVersion.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testListingsHaveDistinctETags() {
+        // Act & Assert
+        assertNotEquals(taskChangeVersion.eTag("tasks"), taskChangeVersion.eTag("page"));
+    }
+}
@@ -0,0 +1,128 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskNameFilterTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskNameFilter taskNameFilter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskNameFilter = new TaskNameFilter(taskRepository, 1000, 0.01, 2);
+    }
+
+    @Test
+    void testEveryNameIsPossibleBeforeFirstBuild() {
+        // Act & Assert
+        assertTrue(taskNameFilter.mightContain("anything"));
+    }
+
+    @Test
+    void testRebuildLoadsNamesFromDatabase() {
+        // Arrange
+        when(taskRepository.streamAllNames()).thenReturn(Stream.of("Task 1", "Task 2"));
+
+        // Act
+        taskNameFilter.rebuild();
+
+        // Assert
+        assertTrue(taskNameFilter.mightContain("Task 1"));
+        assertTrue(taskNameFilter.mightContain("Task 2"));
+        assertFalse(taskNameFilter.mightContain("Task 3"));
+    }
+
+    @Test
+    void testAddedNamesAreVisible() {
+        // Arrange
+        when(taskRepository.streamAllNames()).thenReturn(Stream.empty());
+        taskNameFilter.rebuild();
+
+        // Act
+        taskNameFilter.addAll(List.of("New task"));
+
+        // Assert
+        assertTrue(taskNameFilter.mightContain("New task"));
+    }
+
+    @Test
+    void testRebuildIfStaleWaitsForThreshold() {
+        // Arrange
+        when(taskRepository.streamAllNames()).thenReturn(Stream.of("Task 1"), Stream.empty());
+        taskNameFilter.rebuild();
+        taskNameFilter.markStale();
+
+        // Act
+        taskNameFilter.rebuildIfStale();
+
+        // Assert
+        verify(taskRepository, times(1)).streamAllNames();
+
+        // Act
+        taskNameFilter.markStale();
+        taskNameFilter.rebuildIfStale();
+
+        // Assert
+        verify(taskRepository, times(2)).streamAllNames();
+        assertEquals(0, taskNameFilter.getStaleNames());
+        assertFalse(taskNameFilter.mightContain("Task 1"));
+    }
+
+    @Test
+    void testRebuildSizesFilterForGrownTable() {
+        // Arrange: more tasks than the configured 1000 expected insertions
+        List<String> names = IntStream.range(0, 1500).mapToObj(i -> "Task " + i).toList();
+        when(taskRepository.count()).thenReturn((long) names.size());
+        when(taskRepository.streamAllNames()).thenAnswer(invocation -> names.stream());
+        taskNameFilter.rebuild();
+
+        // Act
+        taskNameFilter.rebuildIfStale();
+
+        // Assert
+        verify(taskRepository, times(1)).streamAllNames();
+    }
+
+    @Test
+    void testOverlappingRebuildIsSkipped() {
+        // Arrange
+        when(taskRepository.streamAllNames()).thenAnswer(invocation -> {
+            taskNameFilter.rebuild();
+            return Stream.of("Task 1");
+        });
+
+        // Act
+        taskNameFilter.rebuild();
+
+        // Assert
+        verify(taskRepository, times(1)).streamAllNames();
+        assertTrue(taskNameFilter.mightContain("Task 1"));
+    }
+
+    @Test
+    void testFailedRebuildKeepsDeferringToDatabase() {
+        // Arrange
+        when(taskRepository.streamAllNames()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        // Act
+        taskNameFilter.rebuild();
+
+        // Assert
+        assertTrue(taskNameFilter.mightContain("Task 1"));
+    }
+}
@@ -0,0 +1,207 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.RankedTaskId;
+import ua.yarynych.taskapi.entity.errors.TaskSearchUnavailableException;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskSearchIndex = new TaskSearchIndex(taskRepository);
+    }
+
+    @Test
+    void testTokenize() {
+        // Act
+        List<String> terms = TaskSearchIndex.tokenize("Fix the login-page, ASAP! Звіт 2024 a", Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(List.of("fix", "the", "login", "page", "asap", "звіт", "2024"), terms);
+    }
+
+    @Test
+    void testSearchBeforeBuildFails() {
+        // Act & Assert
+        assertThrows(TaskSearchUnavailableException.class, () -> taskSearchIndex.search("report", 0, 10));
+    }
+
+    @Test
+    void testFailedBuildIsRetriedUntilReady() {
+        // Arrange
+        when(taskRepository.streamAllSearchableText())
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(Stream.of(text(1L, "Report", "Weekly")));
+        taskSearchIndex.rebuild();
+        assertFalse(taskSearchIndex.isReady());
+
+        // Act
+        taskSearchIndex.rebuildIfNotReady();
+        taskSearchIndex.rebuildIfNotReady();
+
+        // Assert
+        assertEquals(List.of(1L), ids(taskSearchIndex.search("report", 0, 10)));
+        verify(taskRepository, times(2)).streamAllSearchableText();
+    }
+
+    @Test
+    void testChangeCommittedBeforeScanStartsIsReplayed() {
+        // Arrange: the change commits after the query ran but before the scan reads its rows
+        when(taskRepository.streamAllSearchableText()).thenAnswer(invocation -> {
+            taskSearchIndex.addAll(List.of(task(2L, "Created", "Between query and scan")));
+            return Stream.of(text(1L, "Report", "Weekly"));
+        });
+
+        // Act
+        taskSearchIndex.rebuild();
+
+        // Assert
+        assertEquals(List.of(2L), ids(taskSearchIndex.search("created", 0, 10)));
+    }
+
+    @Test
+    void testEveryWordMustMatchAndNameMatchesRankFirst() {
+        // Arrange
+        taskSearchIndex.rebuild(Stream.of(
+                text(1L, "Weekly sync", "Prepare the quarterly report"),
+                text(2L, "Quarterly report", "Send to finance"),
+                text(3L, "Report bug", "Crash on login")));
+
+        // Act
+        List<Long> ids = ids(taskSearchIndex.search("quarterly REPORT", 0, 10));
+
+        // Assert
+        assertEquals(List.of(2L, 1L), ids);
+    }
+
+    @Test
+    void testPagination() {
+        // Arrange
+        taskSearchIndex.rebuild(Stream.of(
+                text(1L, "Task one", "common"),
+                text(2L, "Task two", "common"),
+                text(3L, "Task three", "common")));
+
+        // Act
+        TaskSearchIndex.Matches page = taskSearchIndex.search("common", 1, 1);
+
+        // Assert
+        assertEquals(3, page.total());
+        assertEquals(List.of(2L), ids(page));
+        assertTrue(taskSearchIndex.search("common", 5, 1).ranked().isEmpty());
+    }
+
+    @Test
+    void testUpdateKeepsUnchangedField() {
+        // Arrange
+        taskSearchIndex.rebuild(Stream.of(text(1L, "Old name", "Shared description")));
+
+        // Act
+        taskSearchIndex.update(1L, "New name", null);
+
+        // Assert
+        assertTrue(ids(taskSearchIndex.search("old", 0, 10)).isEmpty());
+        assertEquals(List.of(1L), ids(taskSearchIndex.search("new description", 0, 10)));
+    }
+
+    @Test
+    void testRemove() {
+        // Arrange
+        taskSearchIndex.rebuild(Stream.of(text(1L, "Report", "First"), text(2L, "Report", "Second")));
+
+        // Act
+        taskSearchIndex.removeAll(List.of(1L));
+
+        // Assert
+        assertEquals(List.of(2L), ids(taskSearchIndex.search("report", 0, 10)));
+        assertEquals(0, taskSearchIndex.search("first", 0, 10).total());
+    }
+
+    @Test
+    void testChangesWaitForCommit() {
+        // Arrange
+        taskSearchIndex.rebuild(Stream.empty());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            taskSearchIndex.addAll(List.of(task(1L, "Report", "Pending commit")));
+
+            // Assert
+            assertEquals(0, taskSearchIndex.search("report", 0, 10).total());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, taskSearchIndex.search("report", 0, 10).total());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testChangesDuringRebuildAreReplayed() {
+        // Arrange
+        taskSearchIndex.rebuild(Stream.empty());
+        Stream<TaskRepository.SearchableText> scan = Stream.of(text(1L, "Stale name", "Scanned before the rename"))
+                .peek(scanned -> {
+                    taskSearchIndex.update(1L, "Renamed", null);
+                    taskSearchIndex.addAll(List.of(task(2L, "Created", "During the scan")));
+                });
+
+        // Act
+        taskSearchIndex.rebuild(scan);
+
+        // Assert
+        assertEquals(List.of(1L), ids(taskSearchIndex.search("renamed", 0, 10)));
+        assertEquals(0, taskSearchIndex.search("stale", 0, 10).total());
+        assertEquals(List.of(2L), ids(taskSearchIndex.search("created", 0, 10)));
+    }
+
+    private static List<Long> ids(TaskSearchIndex.Matches matches) {
+        return matches.ranked().stream().map(RankedTaskId::getId).toList();
+    }
+
+    private static Task task(Long id, String name, String description) {
+        Task task = new Task();
+        task.setId(id);
+        task.setName(name);
+        task.setDescription(description);
+        return task;
+    }
+
+    private static TaskRepository.SearchableText text(Long id, String name, String description) {
+        return new TaskRepository.SearchableText() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
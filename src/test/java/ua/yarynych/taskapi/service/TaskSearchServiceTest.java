@@ -0,0 +1,147 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ua.yarynych.taskapi.config.db.CustomRoutingDataSource;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.RankedTaskId;
+import ua.yarynych.taskapi.entity.dto.TaskSearchHit;
+import ua.yarynych.taskapi.entity.dto.TaskSearchPage;
+import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
+import ua.yarynych.taskapi.repository.TaskRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CustomRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testMemoryModeLoadsTasksInRankOrder() {
+        // Arrange
+        TaskSearchService service = newService(TaskSearchService.MODE_MEMORY);
+        when(taskSearchIndex.search("report", 0, 20)).thenReturn(new TaskSearchIndex.Matches(
+                List.of(new RankedTaskId(5L, 2.0), new RankedTaskId(3L, 1.0), new RankedTaskId(9L, 0.5)), 3));
+        // Returned out of order, and task 9 was deleted after it was ranked.
+        when(taskRepository.findAllById(List.of(5L, 3L, 9L))).thenReturn(List.of(task(3L), task(5L)));
+
+        // Act
+        TaskSearchPage page = service.search("report", 0, 20);
+
+        // Assert
+        assertEquals(List.of(5L, 3L), page.getHits().stream().map(hit -> hit.getTask().getId()).toList());
+        assertEquals(List.of(2.0, 1.0), page.getHits().stream().map(TaskSearchHit::getScore).toList());
+        assertEquals(3, page.getTotal());
+        verify(taskRepository, never()).searchFullText(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testPostgresqlModeQueriesDatabaseWhenRoutedThere() {
+        // Arrange
+        TaskSearchService service = newService(TaskSearchService.MODE_POSTGRESQL);
+        when(dataSource.getCurrentLookupKey()).thenReturn(CustomRoutingDataSource.FALLBACK_KEY);
+        when(taskRepository.searchFullText("report", 0, 20)).thenReturn(List.of(new RankedTaskId(5L, 0.6)));
+        when(taskRepository.findAllById(List.of(5L))).thenReturn(List.of(task(5L)));
+
+        // Act
+        TaskSearchPage page = service.search("report", 0, 20);
+
+        // Assert
+        assertEquals(1, page.getHits().size());
+        assertEquals(1, page.getTotal());
+        verify(taskRepository, never()).countFullText(anyString());
+        verifyNoInteractions(taskSearchIndex);
+    }
+
+    @Test
+    void testPostgresqlModeCountsWhenPageIsFull() {
+        // Arrange
+        TaskSearchService service = newService(TaskSearchService.MODE_POSTGRESQL);
+        when(dataSource.getCurrentLookupKey()).thenReturn(CustomRoutingDataSource.FALLBACK_KEY);
+        when(taskRepository.searchFullText("report", 0, 1)).thenReturn(List.of(new RankedTaskId(5L, 0.6)));
+        when(taskRepository.countFullText("report")).thenReturn(42L);
+        when(taskRepository.findAllById(List.of(5L))).thenReturn(List.of(task(5L)));
+
+        // Act
+        TaskSearchPage page = service.search("report", 0, 1);
+
+        // Assert
+        assertEquals(42, page.getTotal());
+    }
+
+    @Test
+    void testPostgresqlModeUsesIndexWhileRoutedToH2() {
+        // Arrange
+        TaskSearchService service = newService(TaskSearchService.MODE_POSTGRESQL);
+        when(dataSource.getCurrentLookupKey()).thenReturn(CustomRoutingDataSource.PRIMARY_KEY);
+        when(taskSearchIndex.search("report", 0, 20)).thenReturn(new TaskSearchIndex.Matches(List.of(), 0));
+
+        // Act
+        TaskSearchPage page = service.search("report", 0, 20);
+
+        // Assert
+        assertTrue(page.getHits().isEmpty());
+        verify(taskRepository, never()).searchFullText(anyString(), anyInt(), anyInt());
+        verify(taskRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testRejectsEmptyQueryAndDeepPages() {
+        // Arrange
+        TaskSearchService service = newService(TaskSearchService.MODE_MEMORY);
+
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> service.search(" ", 0, 20));
+        assertThrows(InvalidTaskStatusException.class, () -> service.search("report", -1, 20));
+        assertThrows(InvalidTaskStatusException.class, () -> service.search("report", TaskSearchService.MAX_WINDOW, 20));
+        verifyNoInteractions(taskSearchIndex);
+    }
+
+    @Test
+    void testClampsLimit() {
+        // Arrange
+        TaskSearchService service = newService(TaskSearchService.MODE_MEMORY);
+        when(taskSearchIndex.search("report", 0, TaskSearchService.MAX_PAGE_SIZE)).thenReturn(new TaskSearchIndex.Matches(List.of(), 0));
+
+        // Act
+        service.search("report", 0, 10_000);
+
+        // Assert
+        verify(taskSearchIndex).search("report", 0, TaskSearchService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void testUnknownModeIsRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> newService("elasticsearch"));
+    }
+
+    private TaskSearchService newService(String mode) {
+        return new TaskSearchService(taskSearchIndex, taskRepository, dataSource, mode);
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+}
@@ -0,0 +1,219 @@
+package ua.yarynych.taskapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.dto.TaskFilter;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.entity.errors.TaskAlreadyExistsException;
+import ua.yarynych.taskapi.support.SqlStatementCounter;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pins the number of SQL statements each TaskService and TaskBulkService operation issues. A change
+ * that adds a round trip fails here; if the extra statement is intended, update the budget in the same change.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.primary.jdbcUrl=jdbc:h2:mem:task-service-query-count;DB_CLOSE_DELAY=-1",
+        "task-api.r2dbc.primary.url=r2dbc:h2:mem:///task-service-query-count"
+})
+@ActiveProfiles("querycount")
+class TaskServiceQueryCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskId = taskService.createTask(newTaskDto());
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void testCreateTaskInsertsTaskAndOutboxEvent() {
+        // Act
+        taskService.createTask(newTaskDto());
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(2);
+    }
+
+    @Test
+    void testCreateTaskWithTakenNameChecksOnce() {
+        // Arrange
+        TaskDto taskDto = newTaskDto();
+        taskService.createTask(taskDto);
+        SqlStatementCounter.reset();
+
+        // Act
+        assertThrows(TaskAlreadyExistsException.class, () -> taskService.createTask(taskDto));
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testCreateTasksBatchesInserts() {
+        // Arrange
+        List<TaskDto> taskDtos = IntStream.range(0, 20).mapToObj(i -> newTaskDto()).toList();
+
+        // Act
+        taskService.createTasks(taskDtos);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(2);
+    }
+
+    @Test
+    void testUpdateTaskStatusIsOneStatement() {
+        // Act
+        taskService.updateTaskStatus(taskId, "In Progress");
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testUpdateTaskFieldsIsOneStatement() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setDescription("Updated description");
+
+        // Act
+        taskService.updateTaskFields(taskId, taskDto);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testRenameTaskIsOneStatement() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Renamed " + UUID.randomUUID());
+
+        // Act
+        taskService.updateTaskFields(taskId, taskDto);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testUpdateTaskFieldsWithUnchangedNameIsTwoStatements() {
+        // Arrange
+        TaskDto renameDto = new TaskDto();
+        renameDto.setName("Renamed " + UUID.randomUUID());
+        taskService.updateTaskFields(taskId, renameDto);
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName(renameDto.getName());
+        taskDto.setDescription("Updated description");
+        SqlStatementCounter.reset();
+
+        // Act
+        taskService.updateTaskFields(taskId, taskDto);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(2);
+    }
+
+    @Test
+    void testGetTaskIsServedFromCacheAfterFirstRead() {
+        // Act
+        taskService.getTask(taskId);
+        taskService.getTask(taskId);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testGetTasksPageIsOneStatement() {
+        // Act
+        taskService.getTasksPage(0L, 10);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testGetAllTasksIsOneStatement() {
+        // Act
+        taskService.getAllTasks();
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testStreamAllTasksIsOneStatement() {
+        // Act
+        taskService.streamAllTasks(task -> { });
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testBulkDeleteByIdsIsOneStatementPerChunk() {
+        // Act
+        taskBulkService.deleteByIds(List.of(taskId));
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    @Test
+    void testBulkDeleteMatchingSelectsAndDeletesPerChunk() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(null, null, null, List.of(taskId));
+
+        // Act
+        taskBulkService.deleteMatching(filter);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(2);
+    }
+
+    @Test
+    void testBulkChangeStatusSelectsUpdatesAndRecordsOneEventPerChunk() {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.PENDING, null, null, List.of(taskId));
+
+        // Act
+        taskBulkService.changeStatus(filter, TaskStatus.IN_PROGRESS);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(3);
+    }
+
+    @Test
+    void testDeleteTaskIsOneStatement() {
+        // Act
+        taskService.deleteTask(taskId);
+
+        // Assert
+        SqlStatementCounter.assertStatementCount(1);
+    }
+
+    private static TaskDto newTaskDto() {
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Task " + UUID.randomUUID());
+        taskDto.setDescription("Query count test");
+        taskDto.setStatus("Pending");
+        return taskDto;
+    }
+}
@@ -5,21 +5,28 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Limit;
 import ua.yarynych.taskapi.entity.Task;
 import ua.yarynych.taskapi.entity.dto.TaskDto;
+import ua.yarynych.taskapi.entity.dto.TaskPage;
 import ua.yarynych.taskapi.entity.enums.TaskStatus;
 import ua.yarynych.taskapi.entity.errors.InvalidTaskStatusException;
 import ua.yarynych.taskapi.entity.errors.TaskAlreadyExistsException;
 import ua.yarynych.taskapi.entity.errors.TaskLimitReachedException;
 import ua.yarynych.taskapi.entity.errors.TaskNotFoundException;
+import ua.yarynych.taskapi.entity.errors.TaskVersionConflictException;
 import ua.yarynych.taskapi.repository.TaskRepository;
+import ua.yarynych.taskapi.service.kafka.TaskEventOutbox;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 class TaskServiceTest {
@@ -28,7 +35,22 @@ class TaskServiceTest {
     private TaskRepository taskRepository;
 
     @Mock
-    private KafkaTemplate<String, Task> kafkaTemplate;
+    private TaskEventOutbox taskEventOutbox;
+
+    @Mock
+    private TaskNameFilter taskNameFilter;
+
+    @Mock
+    private TaskAdmissionCounter taskAdmissionCounter;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskChangeVersion taskChangeVersion;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
 
     @InjectMocks
     private TaskService taskService;
@@ -42,53 +64,95 @@ class TaskServiceTest {
     void testDeleteTask() {
         // Arrange
         Long taskId = 1L;
-        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(taskRepository.deleteTaskById(taskId)).thenReturn(1);
+
+        // Act
+        taskService.deleteTask(taskId);
+
+        // Assert
+        verify(taskRepository).deleteTaskById(taskId);
+        verify(taskRepository, never()).existsById(any());
+        verify(taskRepository, never()).findById(any());
+        verify(taskCache).evict(taskId);
+        verify(taskSearchIndex).removeAll(List.of(taskId));
+        verify(taskChangeVersion).bump();
+    }
+
+    @Test
+    void testDeleteTaskMarksNameStale() {
+        // Arrange
+        Long taskId = 1L;
+        when(taskRepository.deleteTaskById(taskId)).thenReturn(1);
+        when(taskAdmissionCounter.generation()).thenReturn(4L);
 
         // Act
         taskService.deleteTask(taskId);
 
         // Assert
-        verify(taskRepository).deleteById(taskId);
+        verify(taskAdmissionCounter).release(1, 4L);
+        verify(taskNameFilter).markStale();
     }
 
     @Test
     void testDeleteTaskNotFound() {
         // Arrange
         Long taskId = 1L;
-        when(taskRepository.existsById(taskId)).thenReturn(false);
+        when(taskRepository.deleteTaskById(taskId)).thenReturn(0);
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(taskId));
         verify(taskRepository, never()).deleteById(taskId);
+        verify(taskAdmissionCounter, never()).release(anyLong(), anyLong());
+        verify(taskChangeVersion, never()).bump();
     }
 
     @Test
     void testUpdateTaskStatus() {
         // Arrange
         Long taskId = 1L;
-        Task task = new Task();
-        task.setId(taskId);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.updateStatus(taskId, TaskStatus.COMPLETED, TaskStatus.COMPLETED.getAllowedPredecessors()))
+                .thenReturn(1);
 
         // Act
         taskService.updateTaskStatus(taskId, "Completed");
 
         // Assert
-        assertEquals(TaskStatus.COMPLETED, task.getStatus());
-        verify(taskRepository).save(task);
+        verify(taskRepository).updateStatus(taskId, TaskStatus.COMPLETED, TaskStatus.COMPLETED.getAllowedPredecessors());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskCache).evict(taskId);
     }
 
     @Test
     void testUpdateTaskStatusNotFound() {
         // Arrange
         Long taskId = 1L;
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.updateStatus(eq(taskId), any(), any())).thenReturn(0);
+        when(taskCache.get(taskId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.updateTaskStatus(taskId, "COMPLETED"));
     }
 
+    @Test
+    void testUpdateTaskStatusTransitionNotAllowed() {
+        // Arrange
+        Long taskId = 1L;
+        when(taskRepository.updateStatus(eq(taskId), any(), any())).thenReturn(0);
+        when(taskCache.get(taskId)).thenReturn(Optional.of(new Task()));
+
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskService.updateTaskStatus(taskId, "Pending"));
+        verify(taskCache, never()).evict(any());
+    }
+
+    @Test
+    void testUpdateTaskStatusUnknownValue() {
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskService.updateTaskStatus(1L, "Archived"));
+        verify(taskRepository, never()).updateStatus(any(), any(), any());
+    }
+
     @Test
     void testUpdateTaskFieldsNotFound() {
         // Arrange
@@ -104,13 +168,36 @@ class TaskServiceTest {
         assertThrows(TaskNotFoundException.class, () -> taskService.updateTaskFields(taskId, taskDto));
     }
 
+    @Test
+    void testGetTaskFromCache() {
+        // Arrange
+        Task task = new Task();
+        task.setId(1L);
+        when(taskCache.get(1L)).thenReturn(Optional.of(task));
+
+        // Act
+        Task result = taskService.getTask(1L);
+
+        // Assert
+        assertSame(task, result);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetTaskNotFound() {
+        // Arrange
+        when(taskCache.get(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTask(1L));
+    }
+
     @Test
     void testGetAllTasks() {
         // Arrange
         Task task = new Task();
         task.setId(1L);
         when(taskRepository.findAll()).thenReturn(Collections.singletonList(task));
-        when(taskRepository.count()).thenReturn(1L);
 
         // Act
         var tasks = taskService.getAllTasks();
@@ -123,10 +210,86 @@ class TaskServiceTest {
     @Test
     void testGetAllTasksEmpty() {
         // Arrange
-        when(taskRepository.count()).thenReturn(0L);
+        when(taskRepository.findAll()).thenReturn(Collections.emptyList());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.getAllTasks());
+        verify(taskRepository, never()).count();
+    }
+
+    @Test
+    void testGetTasksPageHasNext() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(5L);
+        Task task2 = new Task();
+        task2.setId(6L);
+        Task task3 = new Task();
+        task3.setId(7L);
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(4L, Limit.of(3))).thenReturn(List.of(task1, task2, task3));
+
+        // Act
+        TaskPage page = taskService.getTasksPage(4L, 2);
+
+        // Assert
+        assertEquals(2, page.getTasks().size());
+        assertEquals(6L, page.getNextCursor());
+    }
+
+    @Test
+    void testGetTasksPageLastPage() {
+        // Arrange
+        Task task = new Task();
+        task.setId(5L);
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(4L, Limit.of(3))).thenReturn(List.of(task));
+
+        // Act
+        TaskPage page = taskService.getTasksPage(4L, 2);
+
+        // Assert
+        assertEquals(1, page.getTasks().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetTasksPageClampsLimit() {
+        // Arrange
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(TaskService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        TaskPage page = taskService.getTasksPage(null, 100_000);
+
+        // Assert
+        assertTrue(page.getTasks().isEmpty());
+        verify(taskRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(TaskService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void testCreateTask() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Task 1");
+        taskDto.setDescription("Description 1");
+        taskDto.setStatus("Pending");
+
+        when(taskRepository.existsByName(taskDto.getName())).thenReturn(false);
+        when(taskAdmissionCounter.tryReserve(anyInt())).thenReturn(true);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(1L);
+            return task;
+        });
+
+        // Act
+        Long id = taskService.createTask(taskDto);
+
+        // Assert
+        assertEquals(1L, id);
+        verify(taskRepository, never()).count();
+        verify(taskEventOutbox).taskCreated(argThat(task -> task.getId().equals(1L)
+                && task.getStatus() == TaskStatus.PENDING));
+        verify(taskSearchIndex).addAll(argThat(tasks -> tasks.size() == 1));
     }
 
     @Test
@@ -137,12 +300,33 @@ class TaskServiceTest {
         taskDto.setDescription("Description 1");
         taskDto.setStatus("Pending");
 
+        when(taskNameFilter.mightContain(taskDto.getName())).thenReturn(true);
         when(taskRepository.existsByName(taskDto.getName())).thenReturn(true);
 
         // Act & Assert
         assertThrows(TaskAlreadyExistsException.class, () -> taskService.createTask(taskDto));
     }
 
+    @Test
+    void testCreateTaskSkipsNameLookupWhenFilterRulesItOut() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Task 1");
+        taskDto.setDescription("Description 1");
+        taskDto.setStatus("Pending");
+
+        when(taskNameFilter.mightContain(taskDto.getName())).thenReturn(false);
+        when(taskAdmissionCounter.tryReserve(anyInt())).thenReturn(true);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        taskService.createTask(taskDto);
+
+        // Assert
+        verify(taskRepository, never()).existsByName(any());
+        verify(taskNameFilter).addAll(List.of("Task 1"));
+    }
+
     @Test
     void testCreateTaskWithEmptyName() {
         // Arrange
@@ -174,7 +358,7 @@ class TaskServiceTest {
         taskDto.setStatus("Pending");
 
         when(taskRepository.existsByName(taskDto.getName())).thenReturn(false);
-        when(taskRepository.count()).thenReturn(100L); // Ліміт досягнуто
+        when(taskAdmissionCounter.tryReserve(1)).thenReturn(false); // Ліміт досягнуто
 
         // Act & Assert
         assertThrows(TaskLimitReachedException.class, () -> taskService.createTask(taskDto));
@@ -192,6 +376,194 @@ class TaskServiceTest {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(new Task()));
 
         // Act & Assert
-        assertThrows(TaskNotFoundException.class, () -> taskService.updateTaskFields(taskId, taskDto));
+        assertThrows(InvalidTaskStatusException.class, () -> taskService.updateTaskFields(taskId, taskDto));
+        verify(taskRepository, never()).updateFields(any(), any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void testUpdateTaskFieldsSingleStatement() {
+        // Arrange
+        Long taskId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setDescription("Updated Description");
+        when(taskRepository.updateFields(taskId, null, "Updated Description", null, null, false)).thenReturn(1);
+
+        // Act
+        taskService.updateTaskFields(taskId, taskDto);
+
+        // Assert
+        verify(taskRepository).updateFields(taskId, null, "Updated Description", null, null, false);
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).existsById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskNameFilter, never()).markStale();
+        verify(taskCache).evict(taskId);
+        verify(taskSearchIndex).update(taskId, null, "Updated Description");
+    }
+
+    @Test
+    void testUpdateTaskFieldsRenameMarksNameFilterStale() {
+        // Arrange
+        Long taskId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Renamed Task");
+        when(taskRepository.updateFields(taskId, "Renamed Task", null, null, null, true)).thenReturn(1);
+
+        // Act
+        taskService.updateTaskFields(taskId, taskDto);
+
+        // Assert
+        verify(taskRepository, never()).updateFields(taskId, "Renamed Task", null, null, null, false);
+        verify(taskNameFilter).addAll(List.of("Renamed Task"));
+        verify(taskNameFilter).markStale();
+        verify(taskCache).evict(taskId);
+    }
+
+    @Test
+    void testUpdateTaskFieldsUnchangedNameDoesNotMarkNameFilterStale() {
+        // Arrange
+        Long taskId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Same Task");
+        taskDto.setDescription("Updated Description");
+        when(taskRepository.updateFields(taskId, "Same Task", "Updated Description", null, null, true)).thenReturn(0);
+        when(taskRepository.updateFields(taskId, "Same Task", "Updated Description", null, null, false)).thenReturn(1);
+
+        // Act
+        taskService.updateTaskFields(taskId, taskDto);
+
+        // Assert
+        verify(taskRepository, never()).findById(any());
+        verify(taskNameFilter, never()).markStale();
+        verify(taskCache).evict(taskId);
+        verify(taskSearchIndex).update(taskId, "Same Task", "Updated Description");
+    }
+
+    @Test
+    void testUpdateTaskFieldsRejectsEmptyPatch() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setVersion(2L);
+
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskService.updateTaskFields(1L, taskDto));
+        verify(taskRepository, never()).updateFields(any(), any(), any(), any(), any(), anyBoolean());
+        verify(taskChangeVersion, never()).bump();
+    }
+
+    @Test
+    void testUpdateTaskFieldsVersionConflict() {
+        // Arrange
+        Long taskId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setDescription("Updated Description");
+        taskDto.setVersion(3L);
+        Task current = new Task();
+        current.setVersion(4L);
+        when(taskRepository.updateFields(taskId, null, "Updated Description", null, 3L, false)).thenReturn(0);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(current));
+
+        // Act & Assert
+        assertThrows(TaskVersionConflictException.class, () -> taskService.updateTaskFields(taskId, taskDto));
+        verify(taskCache, never()).evict(any());
+    }
+
+    @Test
+    void testUpdateTaskFieldsTransitionNotAllowed() {
+        // Arrange
+        Long taskId = 1L;
+        TaskDto taskDto = new TaskDto();
+        taskDto.setStatus("Pending");
+        Task current = new Task();
+        current.setStatus(TaskStatus.COMPLETED.getValue());
+        when(taskRepository.updateFields(taskId, null, null, TaskStatus.PENDING, null, false)).thenReturn(0);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(current));
+
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskService.updateTaskFields(taskId, taskDto));
+    }
+
+    @Test
+    void testCreateTasksBatch() {
+        // Arrange
+        TaskDto taskDto1 = new TaskDto();
+        taskDto1.setName("Task 1");
+        taskDto1.setDescription("Description 1");
+        taskDto1.setStatus("Pending");
+        TaskDto taskDto2 = new TaskDto();
+        taskDto2.setName("Task 2");
+        taskDto2.setDescription("Description 2");
+        taskDto2.setStatus("Pending");
+
+        when(taskRepository.findExistingNames(any())).thenReturn(Collections.emptyList());
+        when(taskAdmissionCounter.tryReserve(anyInt())).thenReturn(true);
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            long id = 1;
+            for (Task task : tasks) {
+                task.setId(id++);
+            }
+            return tasks;
+        });
+
+        // Act
+        List<Long> ids = taskService.createTasks(List.of(taskDto1, taskDto2));
+
+        // Assert
+        assertEquals(List.of(1L, 2L), ids);
+        verify(taskRepository, times(1)).saveAll(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).existsByName(any());
+        verify(taskRepository, never()).findExistingNames(any());
+        verify(taskNameFilter).addAll(List.of("Task 1", "Task 2"));
+        verify(taskEventOutbox).tasksCreated(argThat(tasks -> tasks.size() == 2));
+    }
+
+    @Test
+    void testCreateTasksBatchDuplicateNames() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Task 1");
+        taskDto.setDescription("Description 1");
+        taskDto.setStatus("Pending");
+
+        // Act & Assert
+        assertThrows(TaskAlreadyExistsException.class, () -> taskService.createTasks(List.of(taskDto, taskDto)));
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testCreateTasksBatchExistingName() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Task 1");
+        taskDto.setDescription("Description 1");
+        taskDto.setStatus("Pending");
+        when(taskNameFilter.mightContain("Task 1")).thenReturn(true);
+        when(taskRepository.findExistingNames(any())).thenReturn(List.of("Task 1"));
+
+        // Act & Assert
+        assertThrows(TaskAlreadyExistsException.class, () -> taskService.createTasks(List.of(taskDto)));
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testCreateTasksBatchLimitReached() {
+        // Arrange
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Task 1");
+        taskDto.setDescription("Description 1");
+        taskDto.setStatus("Pending");
+        when(taskRepository.findExistingNames(any())).thenReturn(Collections.emptyList());
+        when(taskAdmissionCounter.tryReserve(1)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TaskLimitReachedException.class, () -> taskService.createTasks(List.of(taskDto)));
+    }
+
+    @Test
+    void testCreateTasksEmptyBatch() {
+        // Act & Assert
+        assertThrows(InvalidTaskStatusException.class, () -> taskService.createTasks(Collections.emptyList()));
     }
 }
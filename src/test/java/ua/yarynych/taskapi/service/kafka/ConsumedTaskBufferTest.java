@@ -0,0 +1,140 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import org.junit.jupiter.api.Test;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.ConsumedTaskPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsumedTaskBufferTest {
+
+    @Test
+    void testSequenceNumbersAreAssignedInOrder() {
+        ConsumedTaskBuffer buffer = new ConsumedTaskBuffer(4, ConsumedTaskBuffer.EvictionPolicy.OVERWRITE_OLDEST);
+
+        assertEquals(0, buffer.add(task(1)));
+        assertEquals(1, buffer.add(task(2)));
+        assertEquals(2, buffer.getNextSequence());
+    }
+
+    @Test
+    void testOverwriteOldestKeepsNewestEntries() {
+        ConsumedTaskBuffer buffer = new ConsumedTaskBuffer(3, ConsumedTaskBuffer.EvictionPolicy.OVERWRITE_OLDEST);
+        for (long id = 1; id <= 5; id++) {
+            buffer.add(task(id));
+        }
+
+        ConsumedTaskPage page = buffer.read(0, 10);
+
+        assertEquals(List.of(3L, 4L, 5L), ids(page));
+        assertEquals(5, page.getNextOffset());
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    void testDropNewestRejectsWhenFull() {
+        ConsumedTaskBuffer buffer = new ConsumedTaskBuffer(2, ConsumedTaskBuffer.EvictionPolicy.DROP_NEWEST);
+        buffer.add(task(1));
+        buffer.add(task(2));
+
+        assertEquals(-1, buffer.add(task(3)));
+        assertEquals(1, buffer.getDropped());
+        assertEquals(List.of(1L, 2L), ids(buffer.read(0, 10)));
+    }
+
+    @Test
+    void testDropNewestAcceptsAgainAfterAcknowledge() {
+        ConsumedTaskBuffer buffer = new ConsumedTaskBuffer(2, ConsumedTaskBuffer.EvictionPolicy.DROP_NEWEST);
+        buffer.add(task(1));
+        buffer.add(task(2));
+        assertEquals(-1, buffer.add(task(3)));
+
+        buffer.acknowledge(buffer.read(0, 1).getNextOffset());
+
+        assertEquals(2, buffer.add(task(4)));
+        assertEquals(-1, buffer.add(task(5)));
+        assertEquals(List.of(2L, 4L), ids(buffer.read(1, 10)));
+        assertEquals(2, buffer.getDropped());
+    }
+
+    @Test
+    void testAcknowledgeNeverPassesAcceptedEntries() {
+        ConsumedTaskBuffer buffer = new ConsumedTaskBuffer(2, ConsumedTaskBuffer.EvictionPolicy.DROP_NEWEST);
+        buffer.add(task(1));
+
+        buffer.acknowledge(100);
+        buffer.acknowledge(0);
+
+        assertEquals(1, buffer.getReadCursor());
+        assertEquals(1, buffer.add(task(2)));
+        assertEquals(2, buffer.add(task(3)));
+        assertEquals(-1, buffer.add(task(4)));
+    }
+
+    @Test
+    void testReadWindowContinuesFromNextOffset() {
+        ConsumedTaskBuffer buffer = new ConsumedTaskBuffer(10, ConsumedTaskBuffer.EvictionPolicy.OVERWRITE_OLDEST);
+        for (long id = 1; id <= 5; id++) {
+            buffer.add(task(id));
+        }
+
+        ConsumedTaskPage first = buffer.read(0, 2);
+        ConsumedTaskPage second = buffer.read(first.getNextOffset(), 2);
+        ConsumedTaskPage tail = buffer.read(5, 2);
+
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(3L, 4L), ids(second));
+        assertTrue(tail.getTasks().isEmpty());
+        assertEquals(5, tail.getNextOffset());
+    }
+
+    @Test
+    void testConcurrentWritersDoNotLoseRetainedEntries() throws InterruptedException {
+        ConsumedTaskBuffer buffer = new ConsumedTaskBuffer(1000, ConsumedTaskBuffer.EvictionPolicy.OVERWRITE_OLDEST);
+        int writers = 8;
+        int perWriter = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch done = new CountDownLatch(writers);
+
+        for (int w = 0; w < writers; w++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    buffer.add(task(i));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        ConsumedTaskPage page = buffer.read(0, 2000);
+        assertEquals(writers * perWriter, buffer.getNextSequence());
+        assertEquals(1000, page.getTasks().size());
+        assertEquals(writers * perWriter, page.getNextOffset());
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConsumedTaskBuffer(0, ConsumedTaskBuffer.EvictionPolicy.OVERWRITE_OLDEST));
+    }
+
+    private static Task task(long id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+
+    private static List<Long> ids(ConsumedTaskPage page) {
+        List<Long> ids = new ArrayList<>();
+        page.getTasks().forEach(task -> ids.add(task.getId()));
+        return ids;
+    }
+}
@@ -3,29 +3,31 @@ package ua.yarynych.taskapi.service.kafka;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import ua.yarynych.taskapi.entity.Task;
-import ua.yarynych.taskapi.service.kafka.KafkaConsumerService;
+import ua.yarynych.taskapi.entity.dto.ConsumedTaskPage;
+import ua.yarynych.taskapi.repository.TaskProjectionRepository;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 
 @SpringJUnitConfig
 @EmbeddedKafka(partitions = 1, topics = { "task_created" })
 class KafkaConsumerServiceTest {
 
     private KafkaConsumerService kafkaConsumerService;
-    private static final Logger logger = LoggerFactory.getLogger(KafkaConsumerService.class);
+    private TaskProjectionRepository taskProjectionRepository;
 
     @BeforeEach
     void setUp() {
-        kafkaConsumerService = new KafkaConsumerService();
+        taskProjectionRepository = Mockito.mock(TaskProjectionRepository.class);
+        kafkaConsumerService = new KafkaConsumerService(
+                new ConsumedTaskBuffer(3, ConsumedTaskBuffer.EvictionPolicy.OVERWRITE_OLDEST), taskProjectionRepository);
     }
 
     @Test
@@ -35,10 +37,10 @@ class KafkaConsumerServiceTest {
         task.setId(1L); // Set a test ID for the task
 
         // Act
-        kafkaConsumerService.consumeTask(task);
+        kafkaConsumerService.consumeTasks(List.of(task));
 
         // Assert
-        List<Task> tasks = kafkaConsumerService.getTasks();
+        List<Task> tasks = kafkaConsumerService.getTasks(0, 10).getTasks();
         assertNotNull(tasks);
         assertEquals(1, tasks.size(), "There should be one task in the list.");
         assertEquals(task.getId(), tasks.get(0).getId(), "The task ID should match the consumed task.");
@@ -53,14 +55,84 @@ class KafkaConsumerServiceTest {
         task2.setId(2L);
 
         // Act
-        kafkaConsumerService.consumeTask(task1);
-        kafkaConsumerService.consumeTask(task2);
+        kafkaConsumerService.consumeTasks(List.of(task1, task2));
 
         // Assert
-        List<Task> tasks = kafkaConsumerService.getTasks();
+        List<Task> tasks = kafkaConsumerService.getTasks(0, 10).getTasks();
         assertNotNull(tasks);
         assertEquals(2, tasks.size(), "There should be two tasks in the list.");
         assertEquals(task1.getId(), tasks.get(0).getId(), "The first task ID should match the first consumed task.");
         assertEquals(task2.getId(), tasks.get(1).getId(), "The second task ID should match the second consumed task.");
     }
+
+    @Test
+    void testGetTasksIsBounded() {
+        // Act
+        for (long id = 1; id <= 5; id++) {
+            Task task = new Task();
+            task.setId(id);
+            kafkaConsumerService.consumeTasks(List.of(task));
+        }
+
+        // Assert
+        List<Task> tasks = kafkaConsumerService.getTasks(0, 10).getTasks();
+        assertEquals(List.of(3L, 4L, 5L), tasks.stream().map(Task::getId).toList(), "Only the newest tasks should be kept.");
+    }
+
+    @Test
+    void testGetTasksWithOffsetAndLimit() {
+        // Arrange
+        for (long id = 1; id <= 3; id++) {
+            Task task = new Task();
+            task.setId(id);
+            kafkaConsumerService.consumeTasks(List.of(task));
+        }
+
+        // Act
+        ConsumedTaskPage page = kafkaConsumerService.getTasks(1, 1);
+
+        // Assert
+        assertEquals(1, page.getTasks().size());
+        assertEquals(2L, page.getTasks().get(0).getId());
+        assertEquals(2, page.getNextOffset());
+    }
+
+    @Test
+    void testGetTasksFreesRoomWhenDroppingNewest() {
+        // Arrange
+        kafkaConsumerService = new KafkaConsumerService(
+                new ConsumedTaskBuffer(2, ConsumedTaskBuffer.EvictionPolicy.DROP_NEWEST), taskProjectionRepository);
+        Task task1 = new Task();
+        task1.setId(1L);
+        Task task2 = new Task();
+        task2.setId(2L);
+        Task task3 = new Task();
+        task3.setId(3L);
+        kafkaConsumerService.consumeTasks(List.of(task1, task2));
+
+        // Act
+        ConsumedTaskPage page = kafkaConsumerService.getTasks(0, 10);
+        kafkaConsumerService.consumeTasks(List.of(task3));
+
+        // Assert
+        assertEquals(2, page.getNextOffset());
+        assertEquals(List.of(3L), kafkaConsumerService.getTasks(page.getNextOffset(), 10).getTasks().stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void testConsumeTasksUpsertsBatchOnce() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        Task task2 = new Task();
+        task2.setId(2L);
+        Task withoutId = new Task();
+
+        // Act
+        kafkaConsumerService.consumeTasks(Arrays.asList(task1, null, withoutId, task2));
+
+        // Assert
+        verify(taskProjectionRepository).upsertAll(argThat(tasks -> tasks.size() == 2));
+        assertEquals(2, kafkaConsumerService.getTasks(0, 10).getTasks().size());
+    }
 }
@@ -0,0 +1,121 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.support.SendResult;
+import ua.yarynych.taskapi.entity.OutboxEvent;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.repository.OutboxEventRepository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private TaskEventPublisher taskEventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        outboxRelay = new OutboxRelay(outboxEventRepository, taskEventPublisher, objectMapper, 2, 1, 1000, 24);
+    }
+
+    @Test
+    void testRelayBatchMarksAcknowledgedEventsPublished() throws Exception {
+        // Arrange
+        OutboxEvent event1 = event(1L);
+        OutboxEvent event2 = event(2L);
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(List.of(event1, event2));
+        when(taskEventPublisher.publish(eq("task_created"), anyString(), any(Task.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        int published = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(2, published);
+        verify(taskEventPublisher, times(2)).publish(eq("task_created"), anyString(), any(Task.class));
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any());
+    }
+
+    @Test
+    void testRelayBatchLeavesFailedEventsPending() throws Exception {
+        // Arrange
+        OutboxEvent event1 = event(1L);
+        OutboxEvent event2 = event(2L);
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(List.of(event1, event2));
+        when(taskEventPublisher.publish(eq("task_created"), eq("1"), any(Task.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Broker unavailable")));
+        when(taskEventPublisher.publish(eq("task_created"), eq("2"), any(Task.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        int published = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(1, published);
+        verify(outboxEventRepository).markPublished(eq(List.of(2L)), any());
+    }
+
+    @Test
+    void testRelayDrainsUntilPartialBatch() throws Exception {
+        // Arrange
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(2)))
+                .thenReturn(List.of(event(1L), event(2L)))
+                .thenReturn(List.of(event(3L)))
+                .thenReturn(Collections.emptyList());
+        when(taskEventPublisher.publish(eq("task_created"), anyString(), any(Task.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxEventRepository, times(2)).findByPublishedAtIsNullOrderByIdAsc(Limit.of(2));
+        verify(outboxEventRepository, times(2)).markPublished(any(), any());
+    }
+
+    @Test
+    void testRelayBatchEmptyOutbox() {
+        // Arrange
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(Collections.emptyList());
+
+        // Act
+        int published = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(0, published);
+        verifyNoInteractions(taskEventPublisher);
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+    }
+
+    private OutboxEvent event(Long taskId) throws Exception {
+        Task task = new Task();
+        task.setId(taskId);
+        task.setName("Task " + taskId);
+        task.setStatus("Pending");
+
+        OutboxEvent event = new OutboxEvent("task_created", String.valueOf(taskId), objectMapper.writeValueAsString(task));
+        event.setId(taskId);
+        return event;
+    }
+}
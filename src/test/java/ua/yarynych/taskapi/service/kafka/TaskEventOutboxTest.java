@@ -0,0 +1,100 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ua.yarynych.taskapi.entity.OutboxEvent;
+import ua.yarynych.taskapi.entity.Task;
+import ua.yarynych.taskapi.entity.dto.TaskStatusChangedEvent;
+import ua.yarynych.taskapi.entity.enums.TaskStatus;
+import ua.yarynych.taskapi.repository.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+class TaskEventOutboxTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TaskEventOutbox taskEventOutbox;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskEventOutbox = new TaskEventOutbox(outboxEventRepository, objectMapper);
+    }
+
+    @Test
+    void testTaskCreated() throws Exception {
+        // Arrange
+        Task task = new Task();
+        task.setId(7L);
+        task.setName("Task 7");
+        task.setStatus("Pending");
+
+        // Act
+        taskEventOutbox.taskCreated(task);
+
+        // Assert
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+        assertEquals(TaskEventOutbox.TASK_CREATED_TOPIC, event.getTopic());
+        assertEquals("7", event.getMessageKey());
+        assertNull(event.getPublishedAt());
+
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        assertEquals(7L, payload.get("id").asLong());
+        assertEquals("Task 7", payload.get("name").asText());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTasksCreated() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        Task task2 = new Task();
+        task2.setId(2L);
+
+        // Act
+        taskEventOutbox.tasksCreated(List.of(task1, task2));
+
+        // Assert
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        assertEquals(List.of("1", "2"), captor.getValue().stream().map(OutboxEvent::getMessageKey).toList());
+    }
+
+    @Test
+    void testTaskStatusesChangedRoundTrip() throws Exception {
+        // Arrange
+        TaskStatusChangedEvent change = new TaskStatusChangedEvent("op-1", TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED,
+                3, 10L, 12L, LocalDateTime.of(2024, 11, 3, 12, 0));
+
+        // Act
+        taskEventOutbox.taskStatusesChanged(change);
+
+        // Assert
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+        assertEquals(TaskEventOutbox.TASK_STATUS_CHANGED_TOPIC, event.getTopic());
+        assertEquals("op-1", event.getMessageKey());
+
+        Object payload = objectMapper.readValue(event.getPayload(), TaskEventOutbox.payloadType(event.getTopic()));
+        TaskStatusChangedEvent read = assertInstanceOf(TaskStatusChangedEvent.class, payload);
+        assertEquals(3, read.getCount());
+        assertEquals(TaskStatus.CANCELLED, read.getTo());
+    }
+}
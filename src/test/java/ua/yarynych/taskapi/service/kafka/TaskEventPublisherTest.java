@@ -0,0 +1,77 @@
+package ua.yarynych.taskapi.service.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import ua.yarynych.taskapi.entity.Task;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventPublisher taskEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        taskEventPublisher = new TaskEventPublisher(kafkaTemplate, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublishRecordsSuccess() {
+        // Arrange
+        Task task = new Task();
+        when(kafkaTemplate.send("task_created", "1", task))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // Act
+        CompletableFuture<SendResult<String, Object>> send = taskEventPublisher.publish("task_created", "1", task);
+
+        // Assert
+        assertFalse(send.isCompletedExceptionally());
+        assertEquals(1, meterRegistry.get("task.kafka.send").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testPublishRecordsAsyncFailure() {
+        // Arrange
+        Task task = new Task();
+        when(kafkaTemplate.send("task_created", "1", task))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Broker unavailable")));
+
+        // Act
+        CompletableFuture<SendResult<String, Object>> send = taskEventPublisher.publish("task_created", "1", task);
+
+        // Assert
+        assertTrue(send.isCompletedExceptionally());
+        assertEquals(1, meterRegistry.get("task.kafka.send").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void testPublishTurnsSynchronousErrorIntoFailedFuture() {
+        // Arrange
+        Task task = new Task();
+        when(kafkaTemplate.send("task_created", "1", task)).thenThrow(new IllegalStateException("Buffer exhausted"));
+
+        // Act
+        CompletableFuture<SendResult<String, Object>> send = taskEventPublisher.publish("task_created", "1", task);
+
+        // Assert
+        assertTrue(send.isCompletedExceptionally());
+        assertEquals(1, meterRegistry.get("task.kafka.send").tag("outcome", "failure").timer().count());
+    }
+}
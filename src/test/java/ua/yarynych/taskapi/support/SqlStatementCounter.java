@@ -0,0 +1,60 @@
+package ua.yarynych.taskapi.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Hibernate statement inspector that records every SQL statement Hibernate prepares, per thread.
+ * Registered through {@code hibernate.session_factory.statement_inspector} in the "querycount"
+ * test profile.
+ * <p>
+ * Sequence calls are left out: the pooled ID optimizer fetches a new block only once every 50
+ * inserts, so they would make counts depend on test order. Statements from other threads, such as
+ * scheduled jobs, are not seen by the test thread.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final Pattern ID_ALLOCATION = Pattern.compile("next value for|nextval\\(", Pattern.CASE_INSENSITIVE);
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        if (!ID_ALLOCATION.matcher(sql).find()) {
+            STATEMENTS.get().add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Forgets the statements recorded so far on the current thread.
+     */
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * @return the statements recorded on the current thread since the last reset.
+     */
+    public static List<String> getStatements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * Fails unless exactly the given number of statements was recorded since the last reset.
+     * The failure message lists the statements.
+     *
+     * @param expected the expected number of statements.
+     */
+    public static void assertStatementCount(int expected) {
+        List<String> statements = getStatements();
+        if (statements.size() != expected) {
+            fail("Expected " + expected + " SQL statement(s) but " + statements.size() + " were executed:\n  "
+                    + String.join("\n  ", statements));
+        }
+    }
+}